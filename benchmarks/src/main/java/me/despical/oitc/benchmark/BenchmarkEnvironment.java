@@ -0,0 +1,202 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.benchmark;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import me.despical.oitc.api.StatsStorage;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaRegistry;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.handlers.ChatChannelRegistry;
+import me.despical.oitc.handlers.ChatManager;
+import me.despical.oitc.handlers.metrics.MetricsManager;
+import me.despical.oitc.handlers.profiler.Profiler;
+import me.despical.oitc.user.User;
+import me.despical.oitc.user.UserManager;
+import me.despical.oitc.util.TickGovernor;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class BenchmarkEnvironment {
+
+	private static final String[] CLASSES = {
+		"me.despical.oitc.arena.ArenaState", "me.despical.oitc.arena.options.ArenaOption", "me.despical.oitc.arena.Arena",
+		"me.despical.oitc.api.StatsStorage", "me.despical.oitc.user.User", "me.despical.oitc.user.data.AbstractDatabase"
+	};
+
+	private static final Map<UUID, Player> players = new HashMap<>();
+	private static final Map<Player, Arena> arenas = new HashMap<>();
+
+	private static Main plugin;
+
+	private BenchmarkEnvironment() {
+	}
+
+	public static synchronized Main bootstrap() throws IOException {
+		if (plugin != null) return plugin;
+
+		final File dataFolder = Files.createTempDirectory("oitc-benchmark").toFile();
+
+		for (String name : List.of("config", "messages", "rewards", "stats")) {
+			copyResource(name + ".yml", dataFolder);
+		}
+
+		final File rewardsFile = new File(dataFolder, "rewards.yml");
+		final YamlConfiguration rewards = YamlConfiguration.loadConfiguration(rewardsFile);
+		rewards.set("Rewards-Enabled", true);
+		rewards.save(rewardsFile);
+
+		final Server server = mock(Server.class);
+		when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+		when(server.getScheduler()).thenReturn(mock(BukkitScheduler.class));
+		when(server.getConsoleSender()).thenReturn(mock(ConsoleCommandSender.class));
+		when(server.getName()).thenReturn("Benchmark");
+		when(server.getVersion()).thenReturn("git-Paper (MC: 1.16.5)");
+		when(server.getBukkitVersion()).thenReturn("1.16.5-R0.1-SNAPSHOT");
+		when(server.getLogger()).thenReturn(Logger.getLogger("Benchmark"));
+		when(server.getOnlinePlayers()).thenAnswer(invocation -> List.copyOf(players.values()));
+		when(server.getPlayer(any(UUID.class))).thenAnswer(invocation -> players.get(invocation.<UUID>getArgument(0)));
+
+		if (Bukkit.getServer() == null) {
+			Bukkit.setServer(server);
+		}
+
+		final Main main = mock(Main.class);
+		when(main.getServer()).thenReturn(server);
+		when(main.getName()).thenReturn("OITC");
+		when(main.getDataFolder()).thenReturn(dataFolder);
+		when(main.getLogger()).thenReturn(Logger.getLogger("OITC"));
+		when(main.getConfig()).thenReturn(YamlConfiguration.loadConfiguration(new File(dataFolder, "config.yml")));
+
+		final ArenaRegistry arenaRegistry = mock(ArenaRegistry.class);
+		when(arenaRegistry.getArena(any(Player.class))).thenAnswer(invocation -> arenas.get(invocation.<Player>getArgument(0)));
+		when(main.getArenaRegistry()).thenReturn(arenaRegistry);
+		when(main.getChatChannelRegistry()).thenReturn(mock(ChatChannelRegistry.class));
+
+		final ConfigPreferences configPreferences = new ConfigPreferences(main);
+		when(main.getConfigPreferences()).thenReturn(configPreferences);
+		when(main.getOption(any())).thenAnswer(invocation -> configPreferences.getOption(invocation.getArgument(0)));
+
+		final Profiler profiler = new Profiler(main);
+		when(main.getProfiler()).thenReturn(profiler);
+
+		final MetricsManager metricsManager = new MetricsManager(main);
+		when(main.getMetricsManager()).thenReturn(metricsManager);
+
+		final TickGovernor tickGovernor = new TickGovernor(main);
+		when(main.getTickGovernor()).thenReturn(tickGovernor);
+
+		final ChatManager chatManager = new ChatManager(main);
+		when(main.getChatManager()).thenReturn(chatManager);
+
+		// Classes of the plugin look the instance up with JavaPlugin#getPlugin while they are initialized.
+		try (MockedStatic<JavaPlugin> javaPlugin = Mockito.mockStatic(JavaPlugin.class)) {
+			javaPlugin.when(() -> JavaPlugin.getPlugin(Main.class)).thenReturn(main);
+
+			for (String name : CLASSES) {
+				Class.forName(name, true, Main.class.getClassLoader());
+			}
+		} catch (ClassNotFoundException exception) {
+			throw new IllegalStateException(exception);
+		}
+
+		final UserManager userManager = new UserManager(main);
+		when(main.getUserManager()).thenReturn(userManager);
+
+		return plugin = main;
+	}
+
+	public static synchronized Player createPlayer(String name) {
+		final UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+		final Player player = mock(Player.class);
+
+		when(player.getName()).thenReturn(name);
+		when(player.getUniqueId()).thenReturn(uuid);
+		when(player.isOnline()).thenReturn(true);
+
+		players.put(uuid, player);
+		return player;
+	}
+
+	public static synchronized Arena createArena(String id, int playerCount) {
+		final Arena arena = mock(Arena.class);
+		final List<Player> arenaPlayers = new ArrayList<>();
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		for (int i = 0; i < playerCount; i++) {
+			final Player player = createPlayer(id + '-' + i);
+			final User user = plugin.getUserManager().addUser(player);
+
+			user.setStat(StatsStorage.StatisticType.LOCAL_KILLS, random.nextInt(25));
+			user.setStat(StatsStorage.StatisticType.LOCAL_DEATHS, random.nextInt(25));
+			user.setStat(StatsStorage.StatisticType.LOCAL_KILL_STREAK, random.nextInt(5));
+
+			arenaPlayers.add(player);
+			arenas.put(player, arena);
+		}
+
+		when(arena.getId()).thenReturn(id);
+		when(arena.getMapName()).thenReturn(id);
+		when(arena.getTimer()).thenReturn(300);
+		when(arena.getMinimumPlayers()).thenReturn(2);
+		when(arena.getMaximumPlayers()).thenReturn(playerCount);
+		when(arena.getArenaState()).thenReturn(ArenaState.IN_GAME);
+		when(arena.isArenaState(ArenaState.IN_GAME, ArenaState.ENDING)).thenReturn(true);
+		when(arena.getPlayers()).thenReturn(arenaPlayers);
+		when(arena.getPlayersLeft()).thenAnswer(invocation -> new HashSet<>(arenaPlayers));
+
+		return arena;
+	}
+
+	private static void copyResource(String name, File dataFolder) throws IOException {
+		try (InputStream input = Main.class.getClassLoader().getResourceAsStream(name)) {
+			if (input == null) {
+				throw new IOException("Couldn't find " + name + " in the plugin jar!");
+			}
+
+			Files.copy(input, new File(dataFolder, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
\ No newline at end of file
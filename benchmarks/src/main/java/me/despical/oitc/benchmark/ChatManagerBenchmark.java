@@ -0,0 +1,64 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.benchmark;
+
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.handlers.ChatManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatManagerBenchmark {
+
+	private static final String MESSAGE = "&7[%arena%] &e%players%&7/&e%maxplayers% &7(min. %minplayers%) &7- &e%formatted_time% &7(%time%s)";
+
+	@Param({"1", "3", "10"})
+	public int killStreak;
+
+	private ChatManager chatManager;
+	private Arena arena;
+
+	@Setup
+	public void setUp() throws Exception {
+		this.chatManager = BenchmarkEnvironment.bootstrap().getChatManager();
+		this.arena = BenchmarkEnvironment.createArena("chat-" + killStreak, 16);
+	}
+
+	@Benchmark
+	public String formatPlaceholders() {
+		return chatManager.formatPlaceholders(MESSAGE, arena);
+	}
+
+	@Benchmark
+	public String streakMessage() {
+		return chatManager.getStreakMessage(killStreak);
+	}
+}
\ No newline at end of file
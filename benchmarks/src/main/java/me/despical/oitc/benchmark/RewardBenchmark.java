@@ -0,0 +1,71 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.benchmark;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.handlers.rewards.Reward;
+import me.despical.oitc.handlers.rewards.RewardsFactory;
+import me.despical.oitc.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RewardBenchmark {
+
+	@Param({"eco give %player% 10", "chance(50):p:spawn", "chance(25):broadcast %player% won in %map_name% with %players% players"})
+	public String rawCode;
+
+	private Main plugin;
+	private RewardsFactory rewardsFactory;
+	private User user;
+
+	@Setup
+	public void setUp() throws Exception {
+		this.plugin = BenchmarkEnvironment.bootstrap();
+		this.rewardsFactory = new RewardsFactory(plugin);
+
+		final Arena arena = BenchmarkEnvironment.createArena("rewards", 2);
+
+		this.user = plugin.getUserManager().getUser(arena.getPlayers().get(0));
+	}
+
+	@Benchmark
+	public Reward.SubReward parseSubReward() {
+		return new Reward.SubReward(plugin, rawCode);
+	}
+
+	@Benchmark
+	public void dispatchKillReward() {
+		rewardsFactory.performReward(user, Reward.RewardType.KILL);
+		rewardsFactory.getRewardQueue().flush();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.benchmark;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.managers.ScoreboardManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardBenchmark {
+
+	@Param({"8", "24", "64"})
+	public int players;
+
+	private ScoreboardManager scoreboardManager;
+	private MethodHandle formatScoreboard;
+	private Player viewer;
+
+	@Setup
+	public void setUp() throws Exception {
+		final Main plugin = BenchmarkEnvironment.bootstrap();
+		final Arena arena = BenchmarkEnvironment.createArena("scoreboard-" + players, players);
+		final Method method = ScoreboardManager.class.getDeclaredMethod("formatScoreboard", Player.class);
+
+		method.setAccessible(true);
+
+		this.scoreboardManager = new ScoreboardManager(plugin, arena);
+		this.formatScoreboard = MethodHandles.lookup().unreflect(method);
+		this.viewer = arena.getPlayers().get(0);
+	}
+
+	@Benchmark
+	public Object formatLines() throws Throwable {
+		return formatScoreboard.invoke(scoreboardManager, viewer);
+	}
+
+	@Benchmark
+	public Map<Player, Integer> sortLeaderboard() {
+		return scoreboardManager.getSortedLeaderboard();
+	}
+}
\ No newline at end of file
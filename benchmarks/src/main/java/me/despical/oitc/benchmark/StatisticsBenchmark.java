@@ -0,0 +1,93 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.benchmark;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.api.StatsStorage;
+import me.despical.oitc.user.User;
+import me.despical.oitc.user.data.FlatFileStatistics;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class StatisticsBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	public int users;
+
+	private FlatFileStatistics statistics;
+	private FileConfiguration config;
+	private User user;
+
+	@Setup
+	public void setUp() throws Exception {
+		final Main plugin = BenchmarkEnvironment.bootstrap();
+		final Field field = FlatFileStatistics.class.getDeclaredField("config");
+		field.setAccessible(true);
+
+		this.statistics = new FlatFileStatistics();
+		this.config = (FileConfiguration) field.get(statistics);
+
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final StatsStorage.StatisticType[] stats = StatsStorage.StatisticType.values();
+
+		for (int i = 0; i < users; i++) {
+			final String uuid = new UUID(0, i).toString();
+
+			for (StatsStorage.StatisticType stat : stats) {
+				if (stat.isPersistent()) {
+					config.set(uuid + "." + stat.getName(), random.nextInt(10_000));
+				}
+			}
+		}
+
+		this.user = plugin.getUserManager().addUser(BenchmarkEnvironment.createPlayer("statistics-" + users));
+	}
+
+	@Benchmark
+	public void saveAllStatistic() {
+		statistics.saveAllStatistic(user);
+	}
+
+	@Benchmark
+	public void loadStatistics() {
+		statistics.loadStatistics(user);
+	}
+
+	@Benchmark
+	public String serialize() {
+		return config.saveToString();
+	}
+}
\ No newline at end of file
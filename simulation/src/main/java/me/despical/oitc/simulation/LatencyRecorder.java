@@ -0,0 +1,81 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.simulation;
+
+import java.util.Arrays;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class LatencyRecorder {
+
+	private long[] samples = new long[1024];
+	private int count;
+	private boolean sorted = true;
+
+	public void record(long nanos) {
+		if (count == samples.length) {
+			samples = Arrays.copyOf(samples, count << 1);
+		}
+
+		samples[count++] = nanos;
+		sorted = false;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public double getMean() {
+		if (count == 0) return 0;
+
+		long total = 0;
+
+		for (int i = 0; i < count; i++) total += samples[i];
+
+		return (double) total / count;
+	}
+
+	public long getPercentile(double percentile) {
+		if (count == 0) return 0;
+
+		if (!sorted) {
+			Arrays.sort(samples, 0, count);
+			sorted = true;
+		}
+
+		return samples[Math.min(count - 1, (int) Math.ceil(percentile / 100D * count) - 1)];
+	}
+
+	public long getMax() {
+		return getPercentile(100);
+	}
+
+	public String format() {
+		return String.format("n=%d mean=%s p50=%s p90=%s p99=%s p99.9=%s max=%s", count, millis(getMean()), millis(getPercentile(50)),
+			millis(getPercentile(90)), millis(getPercentile(99)), millis(getPercentile(99.9)), millis(getMax()));
+	}
+
+	private static String millis(double nanos) {
+		return String.format("%.3fms", nanos / 1E6);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,327 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.simulation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import me.despical.oitc.Main;
+import me.despical.oitc.api.events.game.OITCGameStartEvent;
+import me.despical.oitc.api.events.game.OITCGameStopEvent;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaManager;
+import me.despical.oitc.arena.ArenaState;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class LoadSimulation implements Listener {
+
+	private static final int TICKS_PER_SECOND = 20, SPAWN_POINTS = 8;
+
+	private final Settings settings;
+	private final Random random;
+	private final List<SimulatedPlayer> players;
+	private final List<Arena> arenas;
+	private final Map<Arena, Integer> lobbySeconds;
+	private final LatencyRecorder serverTicks, arenaTicks;
+	private final com.sun.management.ThreadMXBean threads;
+
+	private ServerMock server;
+	private Main plugin;
+	private int gamesStarted, gamesFinished, errors;
+
+	private LoadSimulation(Settings settings) {
+		this.settings = settings;
+		this.random = new Random(settings.seed);
+		this.players = new ArrayList<>();
+		this.arenas = new ArrayList<>();
+		this.lobbySeconds = new HashMap<>();
+		this.serverTicks = new LatencyRecorder();
+		this.arenaTicks = new LatencyRecorder();
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	}
+
+	public static void main(String[] args) {
+		new LoadSimulation(Settings.parse(args)).run();
+	}
+
+	private void run() {
+		this.server = MockBukkit.mock();
+
+		try {
+			this.plugin = MockBukkit.load(Main.class);
+			this.configure();
+			this.createArenas();
+			this.createPlayers();
+
+			server.getPluginManager().registerEvents(this, plugin);
+
+			final long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+			final long operationsBefore = plugin.getMetricsManager().getDatabaseOperations().get();
+			final long startedAt = System.nanoTime();
+
+			for (int second = 0; second < settings.seconds; second++) {
+				for (int tick = 0; tick < TICKS_PER_SECOND; tick++) {
+					final long start = System.nanoTime();
+
+					if (tick == 0) this.tickArenas();
+
+					this.simulatePlayers();
+
+					server.getScheduler().performOneTick();
+
+					// MockBukkit has no Paper tick events, fire the end of tick ourselves so deferred cosmetic work runs.
+					final long duration = System.nanoTime() - start;
+					server.getPluginManager().callEvent(new ServerTickEndEvent(second * TICKS_PER_SECOND + tick, duration / 1E6, Math.max(0, 50_000_000L - duration)));
+					serverTicks.record(System.nanoTime() - start);
+				}
+			}
+
+			this.report(System.nanoTime() - startedAt, threads.getCurrentThreadAllocatedBytes() - allocatedBefore,
+				plugin.getMetricsManager().getDatabaseOperations().get() - operationsBefore);
+		} finally {
+			MockBukkit.unmock();
+		}
+	}
+
+	private void configure() {
+		plugin.getConfig().set("Update-Notifier-Enabled", false);
+		plugin.getConfig().set("Inventory-Manager.Enabled", false);
+		plugin.getConfig().set("Firework-When-Game-Ends", false);
+		plugin.getConfig().set("Winning-Score", settings.winningScore);
+		plugin.saveConfig();
+		plugin.reload();
+	}
+
+	private void createArenas() {
+		final World world = server.addSimpleWorld("simulation");
+
+		for (int i = 0; i < settings.arenas; i++) {
+			final Arena arena = new Arena("simulation-" + i);
+			final double centerX = i * 256;
+			final List<Location> spawns = new ArrayList<>();
+
+			for (int j = 0; j < SPAWN_POINTS; j++) {
+				final double angle = Math.PI * 2 * j / SPAWN_POINTS;
+
+				spawns.add(new Location(world, centerX + Math.cos(angle) * 24, 64, Math.sin(angle) * 24));
+			}
+
+			arena.setReady(true);
+			arena.setMapName("Simulation " + i);
+			arena.setMinimumPlayers(2);
+			arena.setMaximumPlayers(settings.arenaSize);
+			arena.setPlayerSpawnPoints(spawns);
+			arena.setLobbyLocation(new Location(world, centerX, 100, 0));
+			arena.setEndLocation(new Location(world, centerX, 120, 0));
+			arena.setArenaState(ArenaState.RESTARTING);
+
+			plugin.getArenaRegistry().registerArena(arena);
+			arenas.add(arena);
+		}
+	}
+
+	private void createPlayers() {
+		for (int i = 0; i < settings.players; i++) {
+			final SimulatedPlayer player = new SimulatedPlayer(server, "Bot" + i);
+
+			player.setOp(true);
+			server.addPlayer(player);
+			players.add(player);
+		}
+	}
+
+	private void tickArenas() {
+		for (Arena arena : arenas) {
+			final long start = System.nanoTime();
+
+			try {
+				arena.run();
+			} catch (RuntimeException exception) {
+				this.error("ticking " + arena.getId(), exception);
+			}
+
+			arenaTicks.record(System.nanoTime() - start);
+
+			if (arena.getArenaState() != ArenaState.STARTING || arena.getPlayers().size() < arena.getMinimumPlayers()) {
+				lobbySeconds.remove(arena);
+				continue;
+			}
+
+			if (lobbySeconds.merge(arena, 1, Integer::sum) >= settings.lobbySeconds || arena.getPlayers().size() >= arena.getMaximumPlayers()) {
+				arena.setForceStart(true);
+			}
+		}
+	}
+
+	private void simulatePlayers() {
+		final double killChance = settings.killsPerSecond / TICKS_PER_SECOND, leaveChance = settings.leaveChance / TICKS_PER_SECOND;
+
+		for (SimulatedPlayer player : players) {
+			final Arena arena = plugin.getArenaRegistry().getArena(player);
+
+			try {
+				if (arena == null) {
+					if (random.nextDouble() < settings.joinChance / TICKS_PER_SECOND) this.join(player);
+				} else if (random.nextDouble() < leaveChance) {
+					ArenaManager.leaveAttempt(player, arena);
+				}
+			} catch (RuntimeException exception) {
+				this.error("moving " + player.getName(), exception);
+			}
+		}
+
+		for (Arena arena : arenas) {
+			if (arena.getArenaState() != ArenaState.IN_GAME || arena.getPhase().isBusy() || random.nextDouble() >= killChance) continue;
+
+			final List<SimulatedPlayer> alive = new ArrayList<>();
+
+			for (Player player : arena.getPlayersLeft()) {
+				if (player instanceof SimulatedPlayer simulated && !simulated.isSimulatedDead()) alive.add(simulated);
+			}
+
+			if (alive.size() < 2) continue;
+
+			final int killerIndex = random.nextInt(alive.size()), victimIndex = (killerIndex + 1 + random.nextInt(alive.size() - 1)) % alive.size();
+			final SimulatedPlayer killer = alive.get(killerIndex), victim = alive.get(victimIndex);
+
+			try {
+				victim.kill(killer);
+				server.getPluginManager().callEvent(new PlayerDeathEvent(victim, new ArrayList<>(), 0, ""));
+			} catch (RuntimeException exception) {
+				this.error("killing " + victim.getName(), exception);
+			}
+		}
+	}
+
+	private void join(Player player) {
+		final List<Arena> open = new ArrayList<>();
+
+		for (Arena arena : arenas) {
+			if (arena.isArenaState(ArenaState.WAITING_FOR_PLAYERS, ArenaState.STARTING) && arena.getPlayers().size() < arena.getMaximumPlayers()) {
+				open.add(arena);
+			}
+		}
+
+		if (!open.isEmpty()) {
+			ArenaManager.joinAttempt(player, open.get(random.nextInt(open.size())));
+		}
+	}
+
+	private void error(String action, RuntimeException exception) {
+		if (errors++ < 10) {
+			plugin.getLogger().warning("Simulation error while " + action + ": " + exception);
+		}
+	}
+
+	@EventHandler
+	public void onGameStart(OITCGameStartEvent event) {
+		gamesStarted++;
+	}
+
+	@EventHandler
+	public void onGameStop(OITCGameStopEvent event) {
+		gamesFinished++;
+	}
+
+	private void report(long elapsed, long allocated, long databaseOperations) {
+		final int games = Math.max(1, gamesFinished);
+
+		System.out.println("=== OITC load simulation ===");
+		System.out.printf("Arenas: %d, players: %d, arena size: %d, simulated: %ds, wall clock: %.1fs%n", settings.arenas, settings.players,
+			settings.arenaSize, settings.seconds, elapsed / 1E9);
+		System.out.printf("Games started: %d, finished: %d, errors: %d%n", gamesStarted, gamesFinished, errors);
+		System.out.println("Server tick: " + serverTicks.format());
+		System.out.println("Arena tick:  " + arenaTicks.format());
+		System.out.printf("Allocated on the main thread: %.1f MB (%.1f KB per game)%n", allocated / 1048576D, allocated / 1024D / games);
+		System.out.printf("Database operations: %d (%.1f per game)%n", databaseOperations, (double) databaseOperations / games);
+		System.out.printf("Main thread budget used at p99: %.1f%%%n", serverTicks.getPercentile(99) / 50_000_000D * 100);
+	}
+
+	private static final class Settings {
+
+		private int arenas = 24, players = 400, arenaSize = 10, seconds = 1800, winningScore = 25, lobbySeconds = 10;
+		private double joinChance = .5, leaveChance = .002, killsPerSecond = 2;
+		private long seed = 42;
+
+		static Settings parse(String[] args) {
+			final Settings settings = new Settings();
+
+			for (String arg : args) {
+				final int index = arg.indexOf('=');
+
+				if (!arg.startsWith("--") || index == -1) {
+					throw new IllegalArgumentException("Expected --key=value but got " + arg);
+				}
+
+				final String value = arg.substring(index + 1);
+
+				switch (arg.substring(2, index)) {
+					case "arenas":
+						settings.arenas = Integer.parseInt(value);
+						break;
+					case "players":
+						settings.players = Integer.parseInt(value);
+						break;
+					case "arena-size":
+						settings.arenaSize = Integer.parseInt(value);
+						break;
+					case "seconds":
+						settings.seconds = Integer.parseInt(value);
+						break;
+					case "winning-score":
+						settings.winningScore = Integer.parseInt(value);
+						break;
+					case "lobby-seconds":
+						settings.lobbySeconds = Integer.parseInt(value);
+						break;
+					case "join-chance":
+						settings.joinChance = Double.parseDouble(value);
+						break;
+					case "leave-chance":
+						settings.leaveChance = Double.parseDouble(value);
+						break;
+					case "kills-per-second":
+						settings.killsPerSecond = Double.parseDouble(value);
+						break;
+					case "seed":
+						settings.seed = Long.parseLong(value);
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown option " + arg);
+				}
+			}
+
+			return settings;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.simulation;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.EntityEffect;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class SimulatedPlayer extends PlayerMock {
+
+	private final ServerMock server;
+	private final Player.Spigot spigot;
+
+	private Player killer;
+	private boolean dead;
+
+	public SimulatedPlayer(ServerMock server, String name) {
+		super(server, name, UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes()));
+		this.server = server;
+		this.spigot = new Player.Spigot() {
+
+			@Override
+			public void respawn() {
+				SimulatedPlayer.this.respawn();
+			}
+		};
+	}
+
+	public boolean isSimulatedDead() {
+		return dead;
+	}
+
+	public void kill(Player killer) {
+		this.killer = killer;
+		this.dead = true;
+	}
+
+	@Override
+	public Player getKiller() {
+		return killer;
+	}
+
+	@Override
+	public void playEffect(@NotNull EntityEffect type) {
+	}
+
+	@NotNull
+	@Override
+	public Player.Spigot spigot() {
+		return spigot;
+	}
+
+	private void respawn() {
+		if (!dead) return;
+
+		final PlayerRespawnEvent event = new PlayerRespawnEvent(this, getLocation(), false);
+
+		server.getPluginManager().callEvent(event);
+
+		this.dead = false;
+		this.killer = null;
+		this.setHealth(getMaxHealth());
+		this.teleport(event.getRespawnLocation());
+	}
+}
\ No newline at end of file
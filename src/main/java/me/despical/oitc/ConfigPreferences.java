@@ -21,12 +21,8 @@ package me.despical.oitc;
 import me.despical.commons.serializer.InventorySerializer;
 import me.despical.commons.string.StringUtils;
 import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 
 /**
@@ -37,31 +33,77 @@ import java.util.function.Function;
 public class ConfigPreferences {
 
 	private final Main plugin;
-	private final Map<Option, Boolean> options;
+
+	private volatile Snapshot snapshot;
 
 	public ConfigPreferences(Main plugin) {
 		this.plugin = plugin;
-		this.options = new HashMap<>();
 		this.loadOptions();
 	}
 
 	private void loadOptions() {
-		for (Option option : Option.values()) {
-			options.put(option, plugin.getConfig().getBoolean(option.path, option.def));
-		}
+		this.snapshot = new Snapshot(plugin.getConfig());
 	}
 
 	public void reload() {
-		this.options.clear();
 		this.loadOptions();
 	}
 
 	public boolean getOption(Option option) {
-		return options.get(option);
+		return snapshot.options.contains(option);
+	}
+
+	public int getInt(IntOption option) {
+		return snapshot.ints[option.ordinal()];
+	}
+
+	public double getDouble(DoubleOption option) {
+		return snapshot.doubles[option.ordinal()];
+	}
+
+	public List<String> getList(ListOption option) {
+		return snapshot.lists.get(option.ordinal());
+	}
+
+	private static final class Snapshot {
+
+		private final Set<Option> options;
+		private final int[] ints;
+		private final double[] doubles;
+		private final List<List<String>> lists;
+
+		Snapshot(FileConfiguration config) {
+			this.options = EnumSet.noneOf(Option.class);
+			this.ints = new int[IntOption.values().length];
+			this.doubles = new double[DoubleOption.values().length];
+
+			final List<List<String>> lists = new ArrayList<>();
+
+			for (Option option : Option.values()) {
+				if (option.supplier != null ? option.supplier.apply(config) : config.getBoolean(option.path, option.def)) {
+					this.options.add(option);
+				}
+			}
+
+			for (IntOption option : IntOption.values()) {
+				this.ints[option.ordinal()] = config.getInt(option.path, option.def);
+			}
+
+			for (DoubleOption option : DoubleOption.values()) {
+				this.doubles[option.ordinal()] = config.getDouble(option.path, option.def);
+			}
+
+			for (ListOption option : ListOption.values()) {
+				lists.add(List.copyOf(config.getStringList(option.path)));
+			}
+
+			this.lists = List.copyOf(lists);
+		}
 	}
 
 	public enum Option {
 
+		ALLOCATION_PROFILER_ENABLED(false),
 		BLOCK_COMMANDS,
 		BUNGEE_ENABLED(false),
 		CHAT_FORMAT_ENABLED,
@@ -72,6 +114,7 @@ public class ConfigPreferences {
 		DISABLE_SPECTATING_ON_BUNGEE(false),
 		ENABLE_ARROW_PICKUPS(false),
 		ENABLE_SHORT_COMMANDS,
+		FIREWORK_WHEN_GAME_ENDS,
 		GAME_BAR_ENABLED,
 		HEAL_ON_KILL(false),
 		HEAL_PLAYER((config) -> {
@@ -84,12 +127,18 @@ public class ConfigPreferences {
 		INSTANT_LEAVE(false),
 		INVENTORY_MANAGER_ENABLED("Inventory-Manager.Enabled"),
 		LEVEL_COUNTDOWN_ENABLED(false),
+		MATCHMAKING_USE_OTHER_SERVERS("Matchmaking.Use-Other-Servers", false),
+		METRICS_ENABLED("Metrics-Exporter.Enabled", false),
+		METRICS_HTTP_ENABLED("Metrics-Exporter.Http-Enabled", false),
 		NAME_TAGS_HIDDEN,
+		PROFILER_ENABLED(false),
 		REGEN_ENABLED(false),
+		TICK_GOVERNOR_ENABLED("Tick-Governor.Enabled"),
 		UPDATE_NOTIFIER_ENABLED;
 
 		final String path;
 		final boolean def;
+		final Function<FileConfiguration, Boolean> supplier;
 
 		Option() {
 			this(true);
@@ -98,16 +147,73 @@ public class ConfigPreferences {
 		Option(boolean def) {
 			this.def = def;
 			this.path = StringUtils.capitalize(name().replace('_', '-').toLowerCase(Locale.ENGLISH), '-', '.');
+			this.supplier = null;
 		}
 
 		Option(String path) {
-			this.def = true;
+			this(path, true);
+		}
+
+		Option(String path, boolean def) {
+			this.def = def;
 			this.path = path;
+			this.supplier = null;
 		}
 
 		Option(Function<FileConfiguration, Boolean> supplier) {
 			this.path = "";
-			this.def = supplier.apply(JavaPlugin.getPlugin(Main.class).getConfig());
+			this.def = true;
+			this.supplier = supplier;
+		}
+	}
+
+	public enum IntOption {
+
+		WINNING_SCORE("Winning-Score", 25),
+		RESPAWN_INVISIBILITY("Respawn-Protection.Invisibility", 0),
+		START_PLAYERS_PER_TICK("Game-Start.Players-Per-Tick", 4),
+		START_TIME_BUDGET("Game-Start.Time-Budget", 5),
+		START_FREEZE_TIME("Game-Start.Freeze-Time", 20),
+		CLEANUP_PLAYERS_PER_TICK("End-Game-Cleanup.Players-Per-Tick", 4),
+		CLEANUP_TIME_BUDGET("End-Game-Cleanup.Time-Budget", 5),
+		METRICS_INTERVAL("Metrics-Exporter.Interval", 15),
+		METRICS_HTTP_PORT("Metrics-Exporter.Http-Port", 9464),
+		TICK_GOVERNOR_TARGET_MSPT("Tick-Governor.Target-MSPT", 45),
+		TICK_GOVERNOR_TIME_BUDGET("Tick-Governor.Time-Budget", 2),
+		TICK_GOVERNOR_MAX_DELAY("Tick-Governor.Max-Delay", 100);
+
+		final String path;
+		final int def;
+
+		IntOption(String path, int def) {
+			this.path = path;
+			this.def = def;
+		}
+	}
+
+	public enum DoubleOption {
+
+		HIT_COOLDOWN_DELAY("Hit-Cooldown-Delay", 20),
+		RESPAWN_INVULNERABILITY("Respawn-Protection.Invulnerable", 0);
+
+		final String path;
+		final double def;
+
+		DoubleOption(String path, double def) {
+			this.path = path;
+			this.def = def;
+		}
+	}
+
+	public enum ListOption {
+
+		WHITELISTED_COMMANDS("Whitelisted-Commands"),
+		DO_NOT_RESTORE("Inventory-Manager.Do-Not-Restore");
+
+		final String path;
+
+		ListOption(String path) {
+			this.path = path;
 		}
 	}
 }
\ No newline at end of file
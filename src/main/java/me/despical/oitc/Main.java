@@ -19,8 +19,8 @@
 package me.despical.oitc;
 
 import me.despical.commandframework.CommandFramework;
+import me.despical.commons.configuration.ConfigUtils;
 import me.despical.commons.scoreboard.ScoreboardLib;
-import me.despical.commons.serializer.InventorySerializer;
 import me.despical.commons.util.Collections;
 import me.despical.commons.util.UpdateChecker;
 import me.despical.oitc.addons.AddonManager;
@@ -28,27 +28,43 @@ import me.despical.oitc.api.StatsStorage;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaRegistry;
 import me.despical.oitc.arena.ArenaUtils;
+import me.despical.oitc.arena.phase.PhaseRegistry;
 import me.despical.oitc.command.AdminCommands;
 import me.despical.oitc.command.PlayerCommands;
 import me.despical.oitc.events.EventListener;
 import me.despical.oitc.handlers.BungeeManager;
+import me.despical.oitc.handlers.ChatChannelRegistry;
 import me.despical.oitc.handlers.ChatManager;
+import me.despical.oitc.handlers.CommandWhitelist;
 import me.despical.oitc.handlers.PermissionsManager;
 import me.despical.oitc.handlers.PlaceholderManager;
+import me.despical.oitc.handlers.bungee.ArenaStateConsumer;
+import me.despical.oitc.handlers.bungee.ArenaStatePublisher;
+import me.despical.oitc.handlers.inventory.InventoryManager;
 import me.despical.oitc.handlers.items.GameItemManager;
 import me.despical.oitc.handlers.language.LanguageManager;
+import me.despical.oitc.handlers.matchmaking.MatchmakingService;
+import me.despical.oitc.handlers.matchmaking.ProxyMatchmaker;
+import me.despical.oitc.handlers.metrics.MetricsManager;
+import me.despical.oitc.handlers.profiler.AllocationProfiler;
+import me.despical.oitc.handlers.profiler.Profiler;
 import me.despical.oitc.handlers.rewards.RewardsFactory;
 import me.despical.oitc.handlers.sign.SignManager;
 import me.despical.oitc.user.User;
 import me.despical.oitc.user.UserManager;
 import me.despical.oitc.user.data.MySQLStatistics;
+import me.despical.oitc.util.TickGovernor;
+import me.despical.oitc.util.TimerWheel;
 import org.bstats.bukkit.Metrics;
 import org.bstats.charts.SimplePie;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.util.logging.Level;
 
 /**
  * @author Despical
@@ -58,7 +74,11 @@ import java.io.File;
 public class Main extends JavaPlugin {
 
 	private ArenaRegistry arenaRegistry;
+	private PhaseRegistry phaseRegistry;
 	private BungeeManager bungeeManager;
+	private ArenaStatePublisher arenaStatePublisher;
+	private ArenaStateConsumer arenaStateConsumer;
+	private MatchmakingService matchmakingService;
 	private RewardsFactory rewardsFactory;
 	private SignManager signManager;
 	private ConfigPreferences configPreferences;
@@ -67,8 +87,16 @@ public class Main extends JavaPlugin {
 	private UserManager userManager;
 	private PermissionsManager permissionsManager;
 	private GameItemManager gameItemManager;
+	private InventoryManager inventoryManager;
 	private LanguageManager languageManager;
 	private CommandFramework commandFramework;
+	private TimerWheel timerWheel;
+	private TickGovernor tickGovernor;
+	private CommandWhitelist commandWhitelist;
+	private ChatChannelRegistry chatChannelRegistry;
+	private Profiler profiler;
+	private AllocationProfiler allocationProfiler;
+	private MetricsManager metricsManager;
 
 	@Override
 	public void onEnable() {
@@ -81,6 +109,8 @@ public class Main extends JavaPlugin {
 
 	@Override
 	public void onDisable() {
+		rewardsFactory.getRewardQueue().flush();
+		tickGovernor.flush();
 		saveAllUserStatistics();
 		
 		for (Arena arena : arenaRegistry.getArenas()) {
@@ -101,36 +131,68 @@ public class Main extends JavaPlugin {
 				player.getActivePotionEffects().forEach(effect -> player.removePotionEffect(effect.getType()));
 
 				if (configPreferences.getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED)) {
-					InventorySerializer.loadInventory(this, player);
+					inventoryManager.restoreInventory(player);
 				}
 			}
 
 			arena.teleportAllToEndLocation();
 		}
+
+		shutdown("inventory manager", inventoryManager::shutdown);
+		shutdown("metrics manager", metricsManager::shutdown);
+
+		if (arenaStatePublisher != null) shutdown("arena state publisher", arenaStatePublisher::shutdown);
+		if (arenaStateConsumer != null) shutdown("arena state consumer", arenaStateConsumer::shutdown);
+	}
+
+	// One failing component shouldn't keep the others from shutting down.
+	private void shutdown(String name, Runnable task) {
+		try {
+			task.run();
+		} catch (Exception exception) {
+			getLogger().log(Level.WARNING, "Couldn't shut down the " + name + "!", exception);
+		}
 	}
 	
 	private void initializeClasses() {
 		setupConfigurationFiles();
 
 		configPreferences = new ConfigPreferences(this);
+		profiler = new Profiler(this);
+		allocationProfiler = new AllocationProfiler(this);
+		metricsManager = new MetricsManager(this);
+		timerWheel = new TimerWheel(this);
+		tickGovernor = new TickGovernor(this);
 		chatManager = new ChatManager(this);
 		addonManager = new AddonManager(this);
 		languageManager = new LanguageManager(this);
 		userManager = new UserManager(this);
 		signManager = new SignManager(this);
+		phaseRegistry = new PhaseRegistry();
+		matchmakingService = new MatchmakingService(this);
 		arenaRegistry = new ArenaRegistry(this);
+		chatChannelRegistry = new ChatChannelRegistry(this);
 		signManager.loadSigns();
 		rewardsFactory = new RewardsFactory(this);
 		permissionsManager = new PermissionsManager(this);
 		gameItemManager = new GameItemManager(this);
+		inventoryManager = new InventoryManager(this);
+		commandWhitelist = new CommandWhitelist(this);
 		commandFramework = new CommandFramework(this);
 
 		if (configPreferences.getOption(ConfigPreferences.Option.BUNGEE_ENABLED)) bungeeManager = new BungeeManager(this);
+
+		final FileConfiguration bungeeConfig = ConfigUtils.getConfig(this, "bungee");
+
+		if (bungeeConfig.getBoolean("State-Publisher.Enabled")) arenaStatePublisher = new ArenaStatePublisher(this, bungeeConfig);
+		if (bungeeConfig.getBoolean("State-Consumer.Enabled")) {
+			arenaStateConsumer = new ArenaStateConsumer(this, bungeeConfig);
+			matchmakingService.setRemoteMatchmaker(new ProxyMatchmaker(this, arenaStateConsumer));
+		}
 		if (chatManager.isPapiEnabled()) new PlaceholderManager(this);
 
 		ScoreboardLib.setPluginInstance(this);
 		EventListener.registerEvents(this);
-		User.cooldownHandlerTask();
 
 		startPluginMetrics();
 
@@ -138,7 +200,7 @@ public class Main extends JavaPlugin {
 		new PlayerCommands();
 
 		if (configPreferences.getOption(ConfigPreferences.Option.NAME_TAGS_HIDDEN)) {
-			getServer().getScheduler().scheduleSyncRepeatingTask(this, () -> getServer().getOnlinePlayers().forEach(ArenaUtils::updateNameTagsVisibility), 60, 140);
+			getServer().getScheduler().scheduleSyncRepeatingTask(this, () -> getServer().getOnlinePlayers().forEach(player -> tickGovernor.submit("name-tags", player.getUniqueId(), () -> ArenaUtils.updateNameTagsVisibility(player))), 60, 140);
 		}
 	}
 
@@ -176,6 +238,21 @@ public class Main extends JavaPlugin {
 		return bungeeManager;
 	}
 
+	@Nullable
+	public ArenaStatePublisher getArenaStatePublisher() {
+		return arenaStatePublisher;
+	}
+
+	@Nullable
+	public ArenaStateConsumer getArenaStateConsumer() {
+		return arenaStateConsumer;
+	}
+
+	@NotNull
+	public MatchmakingService getMatchmakingService() {
+		return matchmakingService;
+	}
+
 	public SignManager getSignManager() {
 		return signManager;
 	}
@@ -205,11 +282,54 @@ public class Main extends JavaPlugin {
 		return gameItemManager;
 	}
 
+	@NotNull
+	public InventoryManager getInventoryManager() {
+		return inventoryManager;
+	}
+
 	@NotNull
 	public CommandFramework getCommandFramework() {
 		return commandFramework;
 	}
 
+	@NotNull
+	public ChatChannelRegistry getChatChannelRegistry() {
+		return chatChannelRegistry;
+	}
+
+	@NotNull
+	public CommandWhitelist getCommandWhitelist() {
+		return commandWhitelist;
+	}
+
+	@NotNull
+	public MetricsManager getMetricsManager() {
+		return metricsManager;
+	}
+
+	@NotNull
+	public Profiler getProfiler() {
+		return profiler;
+	}
+
+	public AllocationProfiler getAllocationProfiler() {
+		return allocationProfiler;
+	}
+
+	@NotNull
+	public TimerWheel getTimerWheel() {
+		return timerWheel;
+	}
+
+	public TickGovernor getTickGovernor() {
+		return tickGovernor;
+	}
+
+	@NotNull
+	public PhaseRegistry getPhaseRegistry() {
+		return phaseRegistry;
+	}
+
 	@NotNull
 	public ArenaRegistry getArenaRegistry() {
 		return arenaRegistry;
@@ -221,6 +341,11 @@ public class Main extends JavaPlugin {
 		return languageManager;
 	}
 
+	@NotNull
+	public ConfigPreferences getConfigPreferences() {
+		return configPreferences;
+	}
+
 	public boolean getOption(ConfigPreferences.Option option) {
 		return configPreferences.getOption(option);
 	}
@@ -228,9 +353,16 @@ public class Main extends JavaPlugin {
 	public void reload() {
 		this.reloadConfig();
 		this.configPreferences.reload();
+		this.profiler.reload();
+		this.allocationProfiler.reload();
+		this.tickGovernor.reload();
+		this.matchmakingService.reload();
+		this.metricsManager.reload();
 		this.chatManager.reload();
 		this.permissionsManager.loadPermissions();
 		this.gameItemManager.reloadItems();
+		this.inventoryManager.reload();
+		this.commandWhitelist.reload();
 		this.addonManager.reload();
 		this.rewardsFactory.reload();
 	}
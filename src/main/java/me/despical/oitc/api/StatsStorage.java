@@ -69,7 +69,9 @@ public class StatsStorage {
 	}
 
 	public static int getUserStats(Player player, StatisticType statisticType) {
-		return plugin.getUserManager().getUser(player).getStat(statisticType);
+		final User user = plugin.getUserManager().getUser(player);
+
+		return user == null ? 0 : user.getStat(statisticType);
 	}
 
 	public enum StatisticType {
@@ -19,20 +19,19 @@
 package me.despical.oitc.arena;
 
 import me.despical.commons.miscellaneous.PlayerUtils;
-import me.despical.commons.serializer.InventorySerializer;
 import me.despical.oitc.ConfigPreferences;
 import me.despical.oitc.Main;
-import me.despical.oitc.api.StatsStorage;
-import me.despical.oitc.api.events.game.OITCGameEndEvent;
-import me.despical.oitc.api.events.game.OITCGameStartEvent;
 import me.despical.oitc.api.events.game.OITCGameStateChangeEvent;
 import me.despical.oitc.arena.managers.GameBarManager;
 import me.despical.oitc.arena.managers.ScoreboardManager;
 import me.despical.oitc.arena.options.ArenaOption;
-import me.despical.oitc.handlers.ChatManager;
-import me.despical.oitc.handlers.rewards.Reward;
+import me.despical.oitc.arena.phase.ArenaPhase;
+import me.despical.oitc.arena.spawn.SpawnMode;
+import me.despical.oitc.arena.spawn.SpawnSelector;
+import me.despical.oitc.handlers.profiler.AllocationProfiler;
+import me.despical.oitc.handlers.profiler.Timing;
+import me.despical.oitc.handlers.profiler.jfr.ArenaTickEvent;
 import me.despical.oitc.user.User;
-import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -50,11 +49,11 @@ import java.util.stream.Collectors;
 public class Arena extends BukkitRunnable {
 
 	private final static Main plugin = JavaPlugin.getPlugin(Main.class);
-	private final static ChatManager chatManager = plugin.getChatManager();
 
 	private final String id;
 	private final GameBarManager gameBarManager;
 	private final ScoreboardManager scoreboardManager;
+	private final SpawnSelector spawnSelector;
 
 	private final Set<Player> players;
 	private final Map<ArenaOption, Integer> arenaOptions;
@@ -65,8 +64,12 @@ public class Arena extends BukkitRunnable {
 	private boolean taskStarted;
 	private String mapName = "";
 	private ArenaState arenaState = ArenaState.INACTIVE;
+	private ArenaPhase phase;
 	private List<Location> playerSpawnPoints;
 
+	private final Timing[] tickTimings;
+	private final AllocationProfiler.Site[] tickAllocations;
+
 	public Arena(String id) {
 		this.id = id;
 		this.players = new HashSet<>();
@@ -75,6 +78,17 @@ public class Arena extends BukkitRunnable {
 		this.gameLocations = new EnumMap<>(GameLocation.class);
 		this.scoreboardManager = new ScoreboardManager(plugin, this);
 		this.gameBarManager = new GameBarManager(this, plugin);
+		this.spawnSelector = new SpawnSelector(this, SpawnMode.RANDOM);
+		this.phase = plugin.getPhaseRegistry().create(ArenaState.INACTIVE, this);
+		this.tickTimings = new Timing[ArenaState.values().length];
+		this.tickAllocations = new AllocationProfiler.Site[ArenaState.values().length];
+
+		for (ArenaState state : ArenaState.values()) {
+			final String name = "tick." + state.name().toLowerCase(Locale.ENGLISH);
+
+			tickTimings[state.ordinal()] = plugin.getProfiler().timing(this, name);
+			tickAllocations[state.ordinal()] = plugin.getAllocationProfiler().site("arena." + name);
+		}
 
 		for (ArenaOption option : ArenaOption.values()) {
 			arenaOptions.put(option, option.value());
@@ -91,6 +105,7 @@ public class Arena extends BukkitRunnable {
 
 	public void setReady(boolean ready) {
 		this.ready = ready;
+		plugin.getMatchmakingService().update(this);
 	}
 
 	public void setForceStart(boolean forceStart) {
@@ -139,6 +154,7 @@ public class Arena extends BukkitRunnable {
 
 	public void setMaximumPlayers(int maximumPlayers) {
 		setOptionValue(ArenaOption.MAXIMUM_PLAYERS, maximumPlayers);
+		plugin.getMatchmakingService().update(this);
 	}
 
 	public Location getLobbyLocation() {
@@ -166,12 +182,48 @@ public class Arena extends BukkitRunnable {
 	}
 
 	public void setArenaState(ArenaState arenaState) {
+		final boolean changed = this.arenaState != arenaState;
+
+		this.applyState(arenaState);
+
+		if (changed) {
+			this.changePhase(plugin.getPhaseRegistry().create(arenaState, this));
+		}
+	}
+
+	public ArenaPhase getPhase() {
+		return phase;
+	}
+
+	public void setPhase(ArenaPhase phase) {
+		if (phase.getState() != arenaState) {
+			this.applyState(phase.getState());
+		}
+
+		this.changePhase(phase);
+	}
+
+	public boolean isBusy() {
+		return phase.isBusy();
+	}
+
+	private void applyState(ArenaState arenaState) {
 		this.arenaState = arenaState;
 		this.gameBarManager.handleGameBar();
+		plugin.getMatchmakingService().update(this);
 		plugin.getServer().getPluginManager().callEvent(new OITCGameStateChangeEvent(this, arenaState));
 		this.updateSigns();
 	}
 
+	private void changePhase(ArenaPhase next) {
+		final ArenaPhase previous = this.phase;
+
+		this.phase = next;
+
+		previous.onExit();
+		next.onEnter();
+	}
+
 	public boolean isArenaState(ArenaState first, ArenaState... others) {
 		if (arenaState == first) return true;
 
@@ -182,7 +234,7 @@ public class Arena extends BukkitRunnable {
 		return false;
 	}
 
-	private int getOption(ArenaOption option) {
+	public int getOption(ArenaOption option) {
 		return arenaOptions.get(option);
 	}
 
@@ -212,8 +264,12 @@ public class Arena extends BukkitRunnable {
 		return playerSpawnPoints.get(ThreadLocalRandom.current().nextInt(playerSpawnPoints.size()));
 	}
 
+	public Location getSpawnPoint(Player player) {
+		return spawnSelector.select(player);
+	}
+
 	public void teleportToStartLocation(Player player) {
-		player.teleport(getRandomSpawnPoint());
+		player.teleport(getSpawnPoint(player));
 	}
 
 	public void teleportAllToStartLocation() {
@@ -274,6 +330,14 @@ public class Arena extends BukkitRunnable {
 		this.playerSpawnPoints = playerSpawnPoints;
 	}
 
+	public SpawnMode getSpawnMode() {
+		return spawnSelector.getMode();
+	}
+
+	public void setSpawnMode(SpawnMode spawnMode) {
+		this.spawnSelector.setMode(spawnMode);
+	}
+
 	public void start() {
 		if (taskStarted) return;
 
@@ -290,10 +354,21 @@ public class Arena extends BukkitRunnable {
 
 	public void addPlayer(Player player) {
 		players.add(player);
+		plugin.getArenaRegistry().trackPlayer(player, this);
+		plugin.getMatchmakingService().update(this);
 	}
 
 	public void removePlayer(Player player) {
 		players.remove(player);
+		plugin.getArenaRegistry().untrackPlayer(player);
+		plugin.getMatchmakingService().update(this);
+	}
+
+	public void clearPlayers() {
+		plugin.getArenaRegistry().untrackPlayers(players);
+		players.clear();
+		plugin.getChatChannelRegistry().rebuild();
+		plugin.getMatchmakingService().update(this);
 	}
 
 	public Set<Player> getPlayersLeft() {
@@ -323,173 +398,35 @@ public class Arena extends BukkitRunnable {
 	public void run() {
 		if (players.isEmpty() && arenaState == ArenaState.WAITING_FOR_PLAYERS) {
 			return;
-		} else if (arenaState != ArenaState.RESTARTING) {
-			gameBarManager.handleGameBar();
 		}
 
-		final int minPlayers = getMinimumPlayers(), waitingTime = getOption(ArenaOption.LOBBY_WAITING_TIME), startingTime = getOption(ArenaOption.LOBBY_STARTING_TIME);
-
-		switch (arenaState) {
-			case WAITING_FOR_PLAYERS:
-				if (players.size() < minPlayers) {
-					if (getTimer() <= 0) {
-						setTimer(45);
-						broadcastMessage(chatManager.formatMessage(this, "in_game.messages.lobby_messages.waiting_for_players"));
-					}
-				} else {
-					showPlayers();
-					setTimer(waitingTime);
-					setArenaState(ArenaState.STARTING);
-					broadcastMessage(chatManager.message("in_game.messages.lobby_messages.enough_players_to_start"));
-					break;
-				}
-
-				setTimer(getTimer() - 1);
-				break;
-			case STARTING:
-				if (plugin.getOption(ConfigPreferences.Option.LEVEL_COUNTDOWN_ENABLED)) {
-					for (Player player : this.getPlayers()) {
-						player.setLevel(getTimer());
-					}
-				}
-
-				if (players.size() < minPlayers) {
-					setTimer(waitingTime);
-					setArenaState(ArenaState.WAITING_FOR_PLAYERS);
-					broadcastMessage(chatManager.prefixedFormattedMessage(this, "in_game.messages.lobby_messages.waiting_for_players", minPlayers));
-
-					for (Player player : this.getPlayers()) {
-						player.setExp(1F);
-						player.setLevel(0);
-					}
-
-					break;
-				}
-
-				if (players.size() >= getMaximumPlayers() && getTimer() >= startingTime && !forceStart) {
-					setTimer(startingTime);
+		final ArenaState state = arenaState;
+		final Timing timing = tickTimings[state.ordinal()];
+		final long start = plugin.getProfiler().start(), allocated = plugin.getAllocationProfiler().start();
+		final ArenaTickEvent event = new ArenaTickEvent();
 
-					if (getTimer() == 15 || getTimer() == 10 || getTimer() <= 5) {
-						broadcastMessage(chatManager.prefixedMessage("in_game.messages.lobby_messages.start_in", getTimer()));
-					}
-				}
+		event.begin();
 
-				if (getTimer() == 0 || forceStart) {
-					setArenaState(ArenaState.IN_GAME);
-
-					plugin.getServer().getPluginManager().callEvent(new OITCGameStartEvent(this));
-
-					setTimer(getGameplayTime());
-					teleportAllToStartLocation();
-
-					for (Player player : this.getPlayers()) {
-						ArenaUtils.updateNameTagsVisibility(player);
-						ArenaUtils.hidePlayersOutsideTheGame(player, this);
-
-						plugin.getUserManager().getUser(player).addStat(StatsStorage.StatisticType.GAMES_PLAYED, 1);
-
-						player.setGameMode(GameMode.ADVENTURE);
-						player.sendMessage(chatManager.prefixedMessage("in_game.messages.lobby_messages.game_started"));
-
-						plugin.getGameItemManager().giveKit(player, this);
-					}
-
-					if (forceStart) {
-						forceStart = false;
-					}
-				}
-
-				setTimer(getTimer() - 1);
-				break;
-			case IN_GAME:
-				int playerSize = getPlayersLeft().size();
-
-				if (playerSize < 2 || getTimer() <= 0) {
-					ArenaManager.stopGame(false, this);
-					return;
-				}
-
-				if (getTimer() == 30 || getTimer() == 60) {
-					String title = chatManager.message("in_game.messages.seconds_left_title").replace("%time%", Integer.toString(getTimer()));
-					String subtitle = chatManager.message("in_game.messages.seconds_left_subtitle").replace("%time%", Integer.toString(getTimer()));
-
-					plugin.getUserManager().getUsers(this).forEach(user -> user.sendTitle(title, subtitle));
-				}
-
-				setTimer(getTimer() - 1);
-				break;
-			case ENDING:
-				if (getTimer() != 0) {
-					setTimer(getTimer() - 1);
-					return;
-				}
-
-				scoreboardManager.stopAllScoreboards();
-				gameBarManager.removeAll();
-
-				for (Player player : this.getPlayers()) {
-					ArenaUtils.showPlayersOutsideTheGame(player, this);
-
-					for (final User users : plugin.getUserManager().getUsers()) {
-						final Player usersPlayer = users.getPlayer();
-
-						if (usersPlayer == null) continue;
-
-						PlayerUtils.showPlayer(player, usersPlayer, plugin);
-
-						if (!plugin.getArenaRegistry().isInArena(usersPlayer) || players.contains(usersPlayer)) {
-							PlayerUtils.showPlayer(usersPlayer, player, plugin);
-						}
-					}
-
-					player.setGameMode(GameMode.SURVIVAL);
-					player.setFlySpeed(.1f);
-					player.setWalkSpeed(.2f);
-					player.setFlying(false);
-					player.setAllowFlight(false);
-					player.getInventory().clear();
-					player.getInventory().setArmorContents(null);
-					player.getActivePotionEffects().forEach(effect -> player.removePotionEffect(effect.getType()));
-
-					teleportToEndLocation(player);
-
-					User user = plugin.getUserManager().getUser(player);
-					user.resetAttackCooldown();
-					user.performReward(Reward.RewardType.END_GAME);
-					user.removeScoreboard();
-
-					gameBarManager.doBarAction(user, 0);
-				}
-
-				if (plugin.getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED)) {
-					this.getPlayers().forEach(player -> InventorySerializer.loadInventory(plugin, player));
-				}
-
-				if (plugin.getOption(ConfigPreferences.Option.BUNGEE_ENABLED) && plugin.getBungeeManager().isShutdownWhenGameEnds()) {
-					plugin.getServer().shutdown();
-				}
-
-				setArenaState(ArenaState.RESTARTING);
-				break;
-			case RESTARTING:
-				OITCGameEndEvent endEvent = new OITCGameEndEvent(this, new HashSet<>(players));
-				plugin.getUserManager().getUsers(this).forEach(user -> user.setSpectator(false));
-				players.clear();
-
-				plugin.getServer().getPluginManager().callEvent(endEvent);
-
-				if (plugin.getOption(ConfigPreferences.Option.BUNGEE_ENABLED)) {
-					final ArenaRegistry arenaRegistry = plugin.getArenaRegistry();
+		try {
+			if (arenaState != ArenaState.RESTARTING) {
+				gameBarManager.handleGameBar();
+			}
 
-					arenaRegistry.shuffleBungeeArena();
+			if (!phase.isBusy()) {
+				phase.onTick();
+			}
+		} finally {
+			plugin.getProfiler().stop(timing, start);
+			plugin.getAllocationProfiler().stop(tickAllocations[state.ordinal()], allocated);
+		}
 
-					for (final Player player : plugin.getServer().getOnlinePlayers()) {
-						ArenaManager.joinAttempt(player, arenaRegistry.getBungeeArena());
-					}
-				}
+		event.end();
 
-				setArenaState(ArenaState.WAITING_FOR_PLAYERS);
-				break;
+		if (event.shouldCommit()) {
+			event.arenaId = id;
+			event.state = state.name();
+			event.playerCount = players.size();
+			event.commit();
 		}
 	}
 
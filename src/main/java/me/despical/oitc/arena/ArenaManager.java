@@ -21,7 +21,6 @@ package me.despical.oitc.arena;
 import me.clip.placeholderapi.PlaceholderAPI;
 import me.despical.commons.miscellaneous.MiscUtils;
 import me.despical.commons.miscellaneous.PlayerUtils;
-import me.despical.commons.serializer.InventorySerializer;
 import me.despical.oitc.ConfigPreferences;
 import me.despical.oitc.Main;
 import me.despical.oitc.api.StatsStorage;
@@ -38,7 +37,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * @author Despical
@@ -119,7 +117,7 @@ public class ArenaManager {
 		}
 
 		if (plugin.getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED)) {
-			InventorySerializer.saveInventoryToFile(plugin, player);
+			plugin.getInventoryManager().saveInventory(player);
 		}
 
 		//user.cacheScoreboard();
@@ -208,6 +206,10 @@ public class ArenaManager {
 
 		if (arena.getArenaState() == ArenaState.IN_GAME && !user.isSpectator()) {
 			if (arena.getPlayersLeft().size() == 1) {
+				// Ending the game skips the cleanup below, undo the start freeze as the phase only releases remaining players.
+				player.setWalkSpeed(.2F);
+				player.removePotionEffect(PotionEffectType.JUMP);
+
 				stopGame(false, arena);
 				return;
 			}
@@ -249,7 +251,7 @@ public class ArenaManager {
 		ArenaUtils.showPlayersOutsideTheGame(player, arena);
 
 		if (!quit && plugin.getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED)) {
-			InventorySerializer.loadInventory(plugin, player);
+			plugin.getInventoryManager().restoreInventory(player);
 		}
 
 		plugin.getUserManager().saveAllStatistic(user);
@@ -260,6 +262,10 @@ public class ArenaManager {
 		OITCGameStopEvent gameStopEvent = new OITCGameStopEvent(arena, quickStop ? OITCGameStopEvent.StopReason.COMMAND : OITCGameStopEvent.StopReason.DEFAULT);
 		plugin.getServer().getPluginManager().callEvent(gameStopEvent);
 
+		if (arena.getArenaState() == ArenaState.IN_GAME) {
+			plugin.getMetricsManager().getGameLength().observe(arena.getGameplayTime() - arena.getTimer());
+		}
+
 		arena.setArenaState(ArenaState.ENDING);
 
 		if (quickStop) {
@@ -299,22 +305,20 @@ public class ArenaManager {
 			for (String msg : chatManager.getStringList("in_game.messages.game_end_messages.summary_message")) {
 				MiscUtils.sendCenteredMessage(player, formatSummaryPlaceholders(msg, arena, player));
 			}
+		}
 
-			if (plugin.getConfig().getBoolean("Firework-When-Game-Ends", true)) {
-				new BukkitRunnable() {
-
-					private int i = 0;
+		if (plugin.getOption(ConfigPreferences.Option.FIREWORK_WHEN_GAME_ENDS)) {
+			plugin.getTimerWheel().scheduleRepeating(30, 30, timeout -> {
+				final int players = arena.getPlayers().size();
 
-					public void run() {
-						if (i == 4 || !arena.getPlayers().contains(player)) {
-							cancel();
-						}
+				if (timeout.getRuns() == 5 || players == 0) {
+					timeout.cancel();
+				}
 
-						MiscUtils.spawnRandomFirework(arena.getRandomSpawnPoint());
-						i++;
-					}
-				}.runTaskTimer(plugin, 30, 30);
-			}
+				for (int i = 0; i < players; i++) {
+					MiscUtils.spawnRandomFirework(arena.getRandomSpawnPoint());
+				}
+			});
 		}
 	}
 
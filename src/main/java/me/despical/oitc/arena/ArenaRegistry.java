@@ -21,15 +21,15 @@ package me.despical.oitc.arena;
 import me.despical.commons.configuration.ConfigUtils;
 import me.despical.commons.serializer.LocationSerializer;
 import me.despical.oitc.Main;
+import me.despical.oitc.arena.spawn.SpawnMode;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -47,11 +47,15 @@ public class ArenaRegistry {
 	@NotNull
 	private final Set<Arena> arenas;
 
-	private int bungeeArena = -1;
+	@NotNull
+	private final Map<UUID, Arena> playerArenas;
+
+	private Arena bungeeArena;
 
 	public ArenaRegistry(Main plugin) {
 		this.plugin = plugin;
 		this.arenas = new HashSet<>();
+		this.playerArenas = new ConcurrentHashMap<>();
 
 		this.registerArenas();
 	}
@@ -62,6 +66,34 @@ public class ArenaRegistry {
 
 	public void unregisterArena(final Arena arena) {
 		this.arenas.remove(arena);
+		this.plugin.getProfiler().removeGroup(arena);
+
+		if (this.bungeeArena == arena) {
+			this.bungeeArena = null;
+		}
+
+		this.plugin.getMatchmakingService().remove(arena);
+
+		if (this.playerArenas.values().removeIf(value -> value == arena)) {
+			this.plugin.getChatChannelRegistry().rebuild();
+		}
+	}
+
+	void trackPlayer(final Player player, final Arena arena) {
+		this.playerArenas.put(player.getUniqueId(), arena);
+		this.plugin.getChatChannelRegistry().rebuild();
+	}
+
+	void untrackPlayer(final Player player) {
+		this.playerArenas.remove(player.getUniqueId());
+		this.plugin.getChatChannelRegistry().rebuild();
+	}
+
+	// Callers must rebuild the chat channels once they are done with the players.
+	void untrackPlayers(final Collection<Player> players) {
+		for (final Player player : players) {
+			this.playerArenas.remove(player.getUniqueId());
+		}
 	}
 
 	@NotNull
@@ -78,9 +110,9 @@ public class ArenaRegistry {
 
 	@Nullable
 	public Arena getArena(final Player player) {
-		if (player == null) return null;
+		if (player == null || playerArenas.isEmpty()) return null;
 
-		return this.arenas.stream().filter(arena -> arena.getPlayers().contains(player)).findFirst().orElse(null);
+		return this.playerArenas.get(player.getUniqueId());
 	}
 
 	public boolean isArena(final String arenaId) {
@@ -88,11 +120,13 @@ public class ArenaRegistry {
 	}
 
 	public boolean isInArena(final Player player) {
-		return this.getArena(player) != null;
+		return player != null && !playerArenas.isEmpty() && playerArenas.containsKey(player.getUniqueId());
 	}
 
 	private void registerArenas() {
 		this.arenas.clear();
+		this.playerArenas.clear();
+		this.bungeeArena = null;
 
 		FileConfiguration config = ConfigUtils.getConfig(plugin, "arenas");
 		ConfigurationSection section = config.getConfigurationSection("instances");
@@ -117,6 +151,7 @@ public class ArenaRegistry {
 			arena.setPlayerSpawnPoints(config.getStringList(path + "playersSpawnPoints").stream().map(LocationSerializer::fromString).collect(Collectors.toList()));
 			arena.setLobbyLocation(LocationSerializer.fromString(config.getString(path + "lobbyLocation")));
 			arena.setEndLocation(LocationSerializer.fromString(config.getString(path + "endLocation")));
+			arena.setSpawnMode(SpawnMode.fromString(config.getString(path + "spawnMode")));
 
 
 			if (!arena.isReady()) {
@@ -130,10 +165,14 @@ public class ArenaRegistry {
 
 	// Bungee methods
 	public void shuffleBungeeArena() {
-		bungeeArena = ThreadLocalRandom.current().nextInt(arenas.size());
+		bungeeArena = new ArrayList<>(arenas).get(ThreadLocalRandom.current().nextInt(arenas.size()));
 	}
 
 	public Arena getBungeeArena() {
-		return new ArrayList<>(arenas).get(bungeeArena == -1 ? bungeeArena = ThreadLocalRandom.current().nextInt(arenas.size()) : bungeeArena);
+		if (bungeeArena == null) {
+			shuffleBungeeArena();
+		}
+
+		return bungeeArena;
 	}
 }
\ No newline at end of file
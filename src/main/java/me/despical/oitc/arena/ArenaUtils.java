@@ -22,11 +22,21 @@ import me.despical.commons.miscellaneous.PlayerUtils;
 import me.despical.commons.reflection.XReflection;
 import me.despical.oitc.ConfigPreferences;
 import me.despical.oitc.Main;
+import me.despical.oitc.handlers.profiler.Timing;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * @author Despical
  * <p>
@@ -35,6 +45,73 @@ import org.bukkit.scoreboard.Team;
 public class ArenaUtils {
 
 	private static final Main plugin = JavaPlugin.getPlugin(Main.class);
+	private static final Timing visibilityTiming = plugin.getProfiler().timing("visibility");
+	private static final Timing nameTagTiming = plugin.getProfiler().timing("visibility.name-tags");
+
+	private static final boolean asyncChunks = hasMethod(World.class, "getChunkAtAsync", Location.class);
+	private static final boolean chunkTickets = hasMethod(Chunk.class, "addPluginChunkTicket", Plugin.class);
+
+	// Arenas holding a ticket on each spawn chunk, arenas can share chunks so tickets are only removed by the last one.
+	private static final Map<String, Set<Arena>> ticketHolders = new HashMap<>();
+
+	public static void preloadSpawnChunks(Arena arena) {
+		for (Location location : arena.getPlayerSpawnPoints()) {
+			final World world = location.getWorld();
+
+			if (world == null) continue;
+
+			final String key = chunkKey(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+
+			if (chunkTickets) {
+				ticketHolders.computeIfAbsent(key, k -> new HashSet<>()).add(arena);
+			}
+
+			if (asyncChunks) {
+				world.getChunkAtAsync(location).thenAccept(chunk -> addTicket(key, chunk));
+			} else {
+				addTicket(key, world.getChunkAt(location));
+			}
+		}
+	}
+
+	public static void releaseSpawnChunks(Arena arena) {
+		if (!chunkTickets) return;
+
+		for (Location location : arena.getPlayerSpawnPoints()) {
+			final World world = location.getWorld();
+
+			if (world == null) continue;
+
+			final int x = location.getBlockX() >> 4, z = location.getBlockZ() >> 4;
+			final String key = chunkKey(world, x, z);
+			final Set<Arena> holders = ticketHolders.get(key);
+
+			if (holders == null || !holders.remove(arena) || !holders.isEmpty()) continue;
+
+			ticketHolders.remove(key);
+			world.removePluginChunkTicket(x, z, plugin);
+		}
+	}
+
+	private static void addTicket(String key, Chunk chunk) {
+		// Released before the chunk was loaded, or the server has no chunk tickets.
+		if (!chunkTickets || !ticketHolders.containsKey(key)) return;
+
+		chunk.addPluginChunkTicket(plugin);
+	}
+
+	private static String chunkKey(World world, int x, int z) {
+		return world.getName() + ':' + x + ':' + z;
+	}
+
+	private static boolean hasMethod(Class<?> clazz, String name, Class<?>... parameters) {
+		try {
+			clazz.getMethod(name, parameters);
+			return true;
+		} catch (NoSuchMethodException exception) {
+			return false;
+		}
+	}
 
 	public static void hidePlayer(Player p, Arena arena) {
 		if (!hide) return;
@@ -55,6 +132,8 @@ public class ArenaUtils {
 	public static void hidePlayersOutsideTheGame(Player player, Arena arena) {
 		if (!hide) return;
 
+		final long start = plugin.getProfiler().start();
+
 		for (Player players : plugin.getServer().getOnlinePlayers()) {
 			if (arena.getPlayers().contains(players)) {
 				continue;
@@ -63,11 +142,15 @@ public class ArenaUtils {
 			PlayerUtils.hidePlayer(player, players, plugin);
 			PlayerUtils.hidePlayer(players, player, plugin);
 		}
+
+		plugin.getProfiler().stop(visibilityTiming, start);
 	}
 
 	public static void showPlayersOutsideTheGame(Player player, Arena arena) {
 		if (!hide) return;
 
+		final long start = plugin.getProfiler().start();
+
 		for (Player players : plugin.getServer().getOnlinePlayers()) {
 			if (arena.getPlayers().contains(players)) {
 				PlayerUtils.hidePlayer(player, players, plugin);
@@ -78,6 +161,8 @@ public class ArenaUtils {
 			PlayerUtils.showPlayer(player, players, plugin);
 			PlayerUtils.showPlayer(players, player, plugin);
 		}
+
+		plugin.getProfiler().stop(visibilityTiming, start);
 	}
 
 	private final static boolean isLegacy = !XReflection.supports(9);
@@ -91,6 +176,8 @@ public class ArenaUtils {
 	public static void updateNameTagsVisibility(Player p) {
 		if (!isNameTagsSupported) return;
 
+		final long start = plugin.getProfiler().start();
+
 		for (Player players : plugin.getServer().getOnlinePlayers()) {
 			Arena arena = plugin.getArenaRegistry().getArena(players);
 
@@ -121,5 +208,7 @@ public class ArenaUtils {
 
 			players.setScoreboard(scoreboard);
 		}
+
+		plugin.getProfiler().stop(nameTagTiming, start);
 	}
 }
\ No newline at end of file
@@ -54,6 +54,10 @@ public final class GameBarManager {
 	public void handleGameBar() {
 		if (this.gameBar == null) return;
 
+		plugin.getTickGovernor().submit("game-bar", this, this::updateTitle);
+	}
+
+	private void updateTitle() {
 		switch (arena.getArenaState()) {
 			case WAITING_FOR_PLAYERS:
 				setTitle("Game-Bar.Waiting-For-Players");
@@ -30,7 +30,10 @@ import me.despical.oitc.api.StatsStorage;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaState;
 import me.despical.oitc.handlers.ChatManager;
+import me.despical.oitc.handlers.profiler.Timing;
+import me.despical.oitc.handlers.profiler.jfr.ScoreboardRenderEvent;
 import me.despical.oitc.user.User;
+import me.despical.oitc.util.TickGovernor;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
@@ -48,12 +51,16 @@ public class ScoreboardManager {
 	private final Arena arena;
 	private final ChatManager chatManager;
 	private final Set<Scoreboard> scoreboards;
+	private final Timing renderTiming;
+
+	private Map<Player, Integer> leaderboard;
 
 	public ScoreboardManager(Main plugin, Arena arena) {
 		this.plugin = plugin;
 		this.arena = arena;
 		this.chatManager = plugin.getChatManager();
 		this.scoreboards = new HashSet<>();
+		this.renderTiming = plugin.getProfiler().timing(arena, "scoreboard.render");
 	}
 
 	public void createScoreboard(Player player) {
@@ -87,9 +94,16 @@ public class ScoreboardManager {
 	public void stopAllScoreboards() {
 		scoreboards.forEach(Scoreboard::deactivate);
 		scoreboards.clear();
+		leaderboard = null;
 	}
 
 	private List<Entry> formatScoreboard(Player player) {
+		final long start = plugin.getProfiler().start();
+		final ScoreboardRenderEvent event = new ScoreboardRenderEvent();
+
+		event.begin();
+		plugin.getMetricsManager().getScoreboardRenders().increment();
+
 		EntryBuilder builder = new EntryBuilder();
 		List<String> lines;
 
@@ -100,19 +114,32 @@ public class ScoreboardManager {
 		}
 
 		User user = plugin.getUserManager().getUser(player);
+		Map<Player, Integer> leaderboard = getLeaderboard();
 
 		for (String line : lines) {
-			String formattedLine = formatScoreboardLine(line, user);
+			String formattedLine = formatScoreboardLine(line, user, leaderboard);
 
 			if (formattedLine.equals("%empty%")) continue;
 
 			builder.next(formattedLine);
 		}
 
-		return builder.build();
+		final List<Entry> entries = builder.build();
+
+		plugin.getProfiler().stop(renderTiming, start);
+
+		event.end();
+
+		if (event.shouldCommit()) {
+			event.arenaId = arena.getId();
+			event.playerCount = arena.getPlayers().size();
+			event.commit();
+		}
+
+		return entries;
 	}
 
-	private String formatScoreboardLine(String line, User user) {
+	private String formatScoreboardLine(String line, User user, Map<Player, Integer> leaderboard) {
 		String formattedLine = line;
 		Player player = user.getPlayer();
 
@@ -126,8 +153,6 @@ public class ScoreboardManager {
 		formattedLine = formattedLine.replace("%deaths%", Integer.toString(user.getStat(StatsStorage.StatisticType.LOCAL_DEATHS)));
 		formattedLine = formattedLine.replace("%kill_streak%", Integer.toString(user.getStat(StatsStorage.StatisticType.LOCAL_KILL_STREAK)));
 
-		Map<Player, Integer> leaderboard = getSortedLeaderboard();
-
 		for (int i = 0, size = arena.getPlayersLeft().size(); i <= arena.getMaximumPlayers(); i++) {
 			formattedLine = formattedLine.replace("%top_player_" + (i + 1) + "%", size > i ? formatTopPlayer(leaderboard, getTopPlayerName(leaderboard, i), i) : "%empty%");
 		}
@@ -139,6 +164,22 @@ public class ScoreboardManager {
 		return chatManager.coloredRawMessage(formattedLine);
 	}
 
+	// With the tick governor, scoreboards show a cached leaderboard that is re-sorted whenever it has spare time.
+	private Map<Player, Integer> getLeaderboard() {
+		final TickGovernor tickGovernor = plugin.getTickGovernor();
+
+		if (!tickGovernor.isEnabled()) {
+			return getSortedLeaderboard();
+		}
+
+		if (leaderboard == null) {
+			return leaderboard = getSortedLeaderboard();
+		}
+
+		tickGovernor.submit("leaderboard", this, () -> leaderboard = getSortedLeaderboard());
+		return leaderboard;
+	}
+
 	public Map<Player, Integer> getSortedLeaderboard() {
 		Map<Player, Integer> statistics = arena.getPlayersLeft()
 			.stream()
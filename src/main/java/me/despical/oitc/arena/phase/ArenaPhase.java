@@ -0,0 +1,66 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.handlers.ChatManager;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public abstract class ArenaPhase {
+
+	protected static final Main plugin = JavaPlugin.getPlugin(Main.class);
+	protected static final ChatManager chatManager = plugin.getChatManager();
+
+	protected final Arena arena;
+
+	private SlicedWork<?> work;
+
+	protected ArenaPhase(Arena arena) {
+		this.arena = arena;
+	}
+
+	public abstract ArenaState getState();
+
+	public void onEnter() {
+	}
+
+	public abstract void onTick();
+
+	public void onExit() {
+	}
+
+	public boolean isBusy() {
+		return work != null && !work.isDone();
+	}
+
+	protected final <T> void slice(Collection<T> items, int perTick, long budgetMillis, Consumer<T> action, Runnable completion) {
+		this.work = new SlicedWork<>(items, perTick, budgetMillis, action, completion);
+		this.work.start();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.commons.miscellaneous.PlayerUtils;
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.arena.ArenaUtils;
+import me.despical.oitc.handlers.rewards.Reward;
+import me.despical.oitc.user.User;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class EndingPhase extends ArenaPhase {
+
+	public EndingPhase(Arena arena) {
+		super(arena);
+	}
+
+	@Override
+	public ArenaState getState() {
+		return ArenaState.ENDING;
+	}
+
+	@Override
+	public void onTick() {
+		if (arena.getTimer() != 0) {
+			arena.setTimer(arena.getTimer() - 1);
+			return;
+		}
+
+		arena.getScoreboardManager().stopAllScoreboards();
+		arena.getGameBar().removeAll();
+
+		final ConfigPreferences preferences = plugin.getConfigPreferences();
+		final boolean restoreInventory = preferences.getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED);
+
+		slice(arena.getPlayers(), preferences.getInt(ConfigPreferences.IntOption.CLEANUP_PLAYERS_PER_TICK), preferences.getInt(ConfigPreferences.IntOption.CLEANUP_TIME_BUDGET), player -> {
+			if (!player.isOnline() || plugin.getArenaRegistry().getArena(player) != arena) return;
+
+			this.cleanUp(player);
+
+			if (restoreInventory) {
+				plugin.getInventoryManager().restoreInventory(player);
+			}
+		}, () -> {
+			if (plugin.getOption(ConfigPreferences.Option.BUNGEE_ENABLED) && plugin.getBungeeManager().isShutdownWhenGameEnds()) {
+				plugin.getServer().shutdown();
+			}
+
+			arena.setArenaState(ArenaState.RESTARTING);
+		});
+	}
+
+	protected void cleanUp(Player player) {
+		ArenaUtils.showPlayersOutsideTheGame(player, arena);
+
+		for (final User users : plugin.getUserManager().getUsers()) {
+			final Player usersPlayer = users.getPlayer();
+
+			if (usersPlayer == null) continue;
+
+			PlayerUtils.showPlayer(player, usersPlayer, plugin);
+
+			final Arena usersArena = plugin.getArenaRegistry().getArena(usersPlayer);
+
+			if (usersArena == null || usersArena == arena) {
+				PlayerUtils.showPlayer(usersPlayer, player, plugin);
+			}
+		}
+
+		player.setGameMode(GameMode.SURVIVAL);
+		player.setFlySpeed(.1f);
+		player.setWalkSpeed(.2f);
+		player.setFlying(false);
+		player.setAllowFlight(false);
+		player.getInventory().clear();
+		player.getInventory().setArmorContents(null);
+		player.getActivePotionEffects().forEach(effect -> player.removePotionEffect(effect.getType()));
+
+		arena.teleportToEndLocation(player);
+
+		User user = plugin.getUserManager().getUser(player);
+		user.resetAttackCooldown();
+		user.performReward(Reward.RewardType.END_GAME);
+		user.removeScoreboard();
+
+		arena.getGameBar().doBarAction(user, 0);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.api.StatsStorage;
+import me.despical.oitc.api.events.game.OITCGameStartEvent;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaManager;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.arena.ArenaUtils;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class InGamePhase extends ArenaPhase {
+
+	private boolean frozen;
+	private int spawnIndex;
+
+	public InGamePhase(Arena arena) {
+		super(arena);
+	}
+
+	@Override
+	public ArenaState getState() {
+		return ArenaState.IN_GAME;
+	}
+
+	@Override
+	public void onEnter() {
+		plugin.getServer().getPluginManager().callEvent(new OITCGameStartEvent(arena));
+
+		arena.setTimer(arena.getGameplayTime());
+
+		final List<Player> players = new ArrayList<>(arena.getPlayers());
+		final List<Location> spawns = arena.getPlayerSpawnPoints();
+
+		if (players.size() > spawns.size()) {
+			plugin.getLogger().warning("There aren't enough spawn points to teleport players!");
+			plugin.getLogger().warning("We are teleporting player to a random location for now!");
+		}
+
+		final ConfigPreferences preferences = plugin.getConfigPreferences();
+		final int freezeTime = preferences.getInt(ConfigPreferences.IntOption.START_FREEZE_TIME);
+
+		this.frozen = true;
+
+		slice(players, preferences.getInt(ConfigPreferences.IntOption.START_PLAYERS_PER_TICK), preferences.getInt(ConfigPreferences.IntOption.START_TIME_BUDGET), player -> {
+			final int index = spawnIndex++;
+
+			if (!player.isOnline() || plugin.getArenaRegistry().getArena(player) != arena) return;
+
+			player.teleport(index < spawns.size() ? spawns.get(index) : spawns.get(ThreadLocalRandom.current().nextInt(spawns.size())));
+
+			ArenaUtils.updateNameTagsVisibility(player);
+			ArenaUtils.hidePlayersOutsideTheGame(player, arena);
+
+			plugin.getUserManager().getUser(player).addStat(StatsStorage.StatisticType.GAMES_PLAYED, 1);
+
+			player.setGameMode(GameMode.ADVENTURE);
+			player.setWalkSpeed(0F);
+			player.addPotionEffect(new PotionEffect(PotionEffectType.JUMP, Integer.MAX_VALUE, 128, false, false));
+
+			plugin.getGameItemManager().giveKit(player, arena);
+		}, () -> {
+			if (freezeTime <= 0) {
+				this.release();
+				return;
+			}
+
+			plugin.getTimerWheel().schedule(freezeTime, this::release);
+		});
+
+		if (arena.isForceStart()) {
+			arena.setForceStart(false);
+		}
+	}
+
+	@Override
+	public boolean isBusy() {
+		return frozen || super.isBusy();
+	}
+
+	private void release() {
+		this.frozen = false;
+
+		if (arena.getPhase() != this) return;
+
+		final String message = chatManager.prefixedMessage("in_game.messages.lobby_messages.game_started");
+
+		for (Player player : arena.getPlayersLeft()) {
+			player.setWalkSpeed(.2F);
+			player.removePotionEffect(PotionEffectType.JUMP);
+			player.sendMessage(message);
+		}
+	}
+
+	@Override
+	public void onTick() {
+		final int timer = arena.getTimer();
+
+		if (arena.getPlayersLeft().size() < 2 || timer <= 0) {
+			ArenaManager.stopGame(false, arena);
+			return;
+		}
+
+		if (timer == 30 || timer == 60) {
+			String title = chatManager.message("in_game.messages.seconds_left_title").replace("%time%", Integer.toString(timer));
+			String subtitle = chatManager.message("in_game.messages.seconds_left_subtitle").replace("%time%", Integer.toString(timer));
+
+			plugin.getUserManager().getUsers(arena).forEach(user -> user.sendTitle(title, subtitle));
+		}
+
+		arena.setTimer(timer - 1);
+	}
+}
\ No newline at end of file
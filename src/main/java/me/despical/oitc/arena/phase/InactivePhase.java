@@ -0,0 +1,43 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class InactivePhase extends ArenaPhase {
+
+	public InactivePhase(Arena arena) {
+		super(arena);
+	}
+
+	@Override
+	public ArenaState getState() {
+		return ArenaState.INACTIVE;
+	}
+
+	@Override
+	public void onTick() {
+	}
+}
\ No newline at end of file
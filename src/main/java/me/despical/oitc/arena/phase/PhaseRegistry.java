@@ -0,0 +1,55 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class PhaseRegistry {
+
+	private final Map<ArenaState, Function<Arena, ArenaPhase>> factories;
+
+	public PhaseRegistry() {
+		this.factories = new EnumMap<>(ArenaState.class);
+
+		this.register(ArenaState.WAITING_FOR_PLAYERS, WaitingPhase::new);
+		this.register(ArenaState.STARTING, StartingPhase::new);
+		this.register(ArenaState.IN_GAME, InGamePhase::new);
+		this.register(ArenaState.ENDING, EndingPhase::new);
+		this.register(ArenaState.RESTARTING, RestartingPhase::new);
+		this.register(ArenaState.INACTIVE, InactivePhase::new);
+	}
+
+	public void register(ArenaState state, Function<Arena, ArenaPhase> factory) {
+		this.factories.put(state, factory);
+	}
+
+	public ArenaPhase create(ArenaState state, Arena arena) {
+		return factories.get(state).apply(arena);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.api.events.game.OITCGameEndEvent;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaManager;
+import me.despical.oitc.arena.ArenaRegistry;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.arena.ArenaUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class RestartingPhase extends ArenaPhase {
+
+	public RestartingPhase(Arena arena) {
+		super(arena);
+	}
+
+	@Override
+	public ArenaState getState() {
+		return ArenaState.RESTARTING;
+	}
+
+	@Override
+	public void onTick() {
+		ArenaUtils.releaseSpawnChunks(arena);
+
+		OITCGameEndEvent endEvent = new OITCGameEndEvent(arena, new HashSet<>(arena.getPlayers()));
+		plugin.getUserManager().getUsers(arena).forEach(user -> user.setSpectator(false));
+		arena.clearPlayers();
+
+		plugin.getServer().getPluginManager().callEvent(endEvent);
+
+		if (!plugin.getOption(ConfigPreferences.Option.BUNGEE_ENABLED)) {
+			arena.setArenaState(ArenaState.WAITING_FOR_PLAYERS);
+			return;
+		}
+
+		final ArenaRegistry arenaRegistry = plugin.getArenaRegistry();
+		final ConfigPreferences preferences = plugin.getConfigPreferences();
+
+		arenaRegistry.shuffleBungeeArena();
+
+		final Arena bungeeArena = arenaRegistry.getBungeeArena();
+
+		// Players can only join once the arena is waiting again, so flip the state first and spread the rejoins.
+		arena.setArenaState(ArenaState.WAITING_FOR_PLAYERS);
+
+		slice(new ArrayList<>(plugin.getServer().getOnlinePlayers()), preferences.getInt(ConfigPreferences.IntOption.CLEANUP_PLAYERS_PER_TICK), preferences.getInt(ConfigPreferences.IntOption.CLEANUP_TIME_BUDGET), player -> {
+			if (player.isOnline()) ArenaManager.joinAttempt(player, bungeeArena);
+		}, null);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.util.TimerWheel;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class SlicedWork<T> {
+
+	private static final Main plugin = JavaPlugin.getPlugin(Main.class);
+
+	private final Deque<T> items;
+	private final int perTick;
+	private final long budget;
+	private final Consumer<T> action;
+	private final Runnable completion;
+
+	private TimerWheel.Timeout timeout;
+	private boolean done;
+
+	public SlicedWork(Collection<T> items, int perTick, long budgetMillis, Consumer<T> action, Runnable completion) {
+		this.items = new ArrayDeque<>(items);
+		this.perTick = perTick <= 0 ? Integer.MAX_VALUE : perTick;
+		this.budget = budgetMillis <= 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+		this.action = action;
+		this.completion = completion;
+	}
+
+	public void start() {
+		if (this.process()) return;
+
+		this.timeout = plugin.getTimerWheel().scheduleRepeating(1, 1, handle -> this.process());
+	}
+
+	public boolean isDone() {
+		return done;
+	}
+
+	private boolean process() {
+		final long start = System.nanoTime();
+		int processed = 0;
+		T item;
+
+		while (processed++ < perTick && (item = items.poll()) != null) {
+			try {
+				action.accept(item);
+			} catch (Exception exception) {
+				plugin.getLogger().log(Level.WARNING, "Exception while processing sliced arena work!", exception);
+			}
+
+			if (System.nanoTime() - start >= budget) break;
+		}
+
+		if (!items.isEmpty()) return false;
+
+		if (timeout != null) {
+			timeout.cancel();
+		}
+
+		this.done = true;
+
+		if (completion != null) {
+			completion.run();
+		}
+
+		return true;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.phase;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.arena.ArenaUtils;
+import me.despical.oitc.arena.options.ArenaOption;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class StartingPhase extends ArenaPhase {
+
+	public StartingPhase(Arena arena) {
+		super(arena);
+	}
+
+	@Override
+	public ArenaState getState() {
+		return ArenaState.STARTING;
+	}
+
+	@Override
+	public void onEnter() {
+		ArenaUtils.preloadSpawnChunks(arena);
+	}
+
+	@Override
+	public void onExit() {
+		if (arena.getArenaState() != ArenaState.IN_GAME) {
+			ArenaUtils.releaseSpawnChunks(arena);
+		}
+	}
+
+	@Override
+	public void onTick() {
+		final List<Player> players = arena.getPlayers();
+		final int minPlayers = arena.getMinimumPlayers(), startingTime = arena.getOption(ArenaOption.LOBBY_STARTING_TIME);
+
+		if (plugin.getOption(ConfigPreferences.Option.LEVEL_COUNTDOWN_ENABLED)) {
+			for (Player player : players) {
+				player.setLevel(arena.getTimer());
+			}
+		}
+
+		if (players.size() < minPlayers) {
+			arena.setTimer(arena.getOption(ArenaOption.LOBBY_WAITING_TIME));
+			arena.setArenaState(ArenaState.WAITING_FOR_PLAYERS);
+			arena.broadcastMessage(chatManager.prefixedFormattedMessage(arena, "in_game.messages.lobby_messages.waiting_for_players", minPlayers));
+
+			for (Player player : players) {
+				player.setExp(1F);
+				player.setLevel(0);
+			}
+
+			return;
+		}
+
+		if (players.size() >= arena.getMaximumPlayers() && arena.getTimer() >= startingTime && !arena.isForceStart()) {
+			arena.setTimer(startingTime);
+
+			if (arena.getTimer() == 15 || arena.getTimer() == 10 || arena.getTimer() <= 5) {
+				arena.broadcastMessage(chatManager.prefixedMessage("in_game.messages.lobby_messages.start_in", arena.getTimer()));
+			}
+		}
+
+		if (arena.getTimer() == 0 || arena.isForceStart()) {
+			arena.setArenaState(ArenaState.IN_GAME);
+		}
+
+		arena.setTimer(arena.getTimer() - 1);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.arena.spawn;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.user.User;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class SpawnSelector {
+
+	private static final Main plugin = JavaPlugin.getPlugin(Main.class);
+
+	private static final int CELL_SHIFT = 4, SEARCH_CELLS = 3;
+	private static final double MAX_SCORE = Math.pow((SEARCH_CELLS + 1) << CELL_SHIFT, 2);
+
+	private final Arena arena;
+
+	private SpawnMode mode;
+	private int cursor;
+
+	private long snapshotTick = -1;
+	private int count;
+	private Player[] players = new Player[0];
+	private double[] xs = new double[0], zs = new double[0];
+	private long[] cells = new long[0];
+
+	public SpawnSelector(Arena arena, SpawnMode mode) {
+		this.arena = arena;
+		this.mode = mode;
+	}
+
+	public SpawnMode getMode() {
+		return mode;
+	}
+
+	public void setMode(SpawnMode mode) {
+		this.mode = mode;
+	}
+
+	public Location select(Player respawning) {
+		final List<Location> spawns = arena.getPlayerSpawnPoints();
+		final int size = spawns.size();
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		if (size == 1) return spawns.get(0);
+
+		switch (mode) {
+			case ROUND_ROBIN:
+				return spawns.get(cursor = (cursor + 1) % size);
+			case WEIGHTED: {
+				final double[] scores = score(spawns, respawning);
+				double total = 0;
+
+				for (double score : scores) total += score;
+
+				double target = random.nextDouble() * total;
+
+				for (int i = 0; i < size; i++) {
+					if ((target -= scores[i]) <= 0) return spawns.get(i);
+				}
+
+				return spawns.get(size - 1);
+			}
+			case SAFEST: {
+				final double[] scores = score(spawns, respawning);
+				int best = random.nextInt(size);
+
+				for (int i = 0; i < size; i++) {
+					if (scores[i] > scores[best]) best = i;
+				}
+
+				return spawns.get(best);
+			}
+			default:
+				return spawns.get(random.nextInt(size));
+		}
+	}
+
+	private double[] score(List<Location> spawns, Player respawning) {
+		this.takeSnapshot();
+
+		final double[] scores = new double[spawns.size()];
+
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = 1 + nearestEnemy(spawns.get(i), respawning);
+		}
+
+		return scores;
+	}
+
+	private double nearestEnemy(Location spawn, Player respawning) {
+		if (count == 0) return MAX_SCORE;
+
+		final double x = spawn.getX(), z = spawn.getZ();
+		final int cellX = (int) Math.floor(x) >> CELL_SHIFT, cellZ = (int) Math.floor(z) >> CELL_SHIFT;
+		final World world = spawn.getWorld();
+		double nearest = MAX_SCORE;
+
+		for (int dx = -SEARCH_CELLS; dx <= SEARCH_CELLS; dx++) {
+			for (int dz = -SEARCH_CELLS; dz <= SEARCH_CELLS; dz++) {
+				int index = Arrays.binarySearch(cells, 0, count, key(cellX + dx, cellZ + dz));
+
+				if (index < 0) continue;
+
+				while (index > 0 && cells[index - 1] == cells[index]) index--;
+
+				for (; index < count && cells[index] == key(cellX + dx, cellZ + dz); index++) {
+					final Player player = players[index];
+
+					if (player == respawning || player.getWorld() != world) continue;
+
+					final double distX = xs[index] - x, distZ = zs[index] - z;
+					nearest = Math.min(nearest, distX * distX + distZ * distZ);
+				}
+			}
+		}
+
+		return nearest;
+	}
+
+	private void takeSnapshot() {
+		final long tick = plugin.getTimerWheel().currentTick();
+
+		if (tick == snapshotTick) return;
+
+		this.snapshotTick = tick;
+
+		final List<Player> arenaPlayers = arena.getPlayers();
+		final int capacity = arenaPlayers.size();
+
+		if (players.length < capacity) {
+			players = new Player[capacity];
+			xs = new double[capacity];
+			zs = new double[capacity];
+			cells = new long[capacity];
+		}
+
+		final Integer[] order = new Integer[capacity];
+		final Player[] alive = new Player[capacity];
+		final Location[] locations = new Location[capacity];
+		final long[] keys = new long[capacity];
+		int size = 0;
+
+		for (Player player : arenaPlayers) {
+			final User user = plugin.getUserManager().getUser(player);
+
+			if (user == null || user.isSpectator() || player.isDead()) continue;
+
+			final Location location = player.getLocation();
+
+			alive[size] = player;
+			locations[size] = location;
+			keys[size] = key(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+			order[size] = size++;
+		}
+
+		Arrays.sort(order, 0, size, (a, b) -> Long.compare(keys[a], keys[b]));
+		Arrays.fill(players, null);
+
+		for (int i = 0; i < size; i++) {
+			final int from = order[i];
+
+			players[i] = alive[from];
+			xs[i] = locations[from].getX();
+			zs[i] = locations[from].getZ();
+			cells[i] = keys[from];
+		}
+
+		this.count = size;
+	}
+
+	private static long key(int cellX, int cellZ) {
+		return ((long) cellX << 32) ^ (cellZ & 0xFFFFFFFFL);
+	}
+}
\ No newline at end of file
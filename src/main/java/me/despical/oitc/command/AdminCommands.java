@@ -12,6 +12,9 @@ import me.despical.commons.util.Strings;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaManager;
 import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.handlers.profiler.AllocationProfiler;
+import me.despical.oitc.handlers.profiler.Profiler;
+import me.despical.oitc.handlers.profiler.Timing;
 import me.despical.oitc.menu.setup.ArenaEditorMenu;
 import me.despical.oitc.user.User;
 import net.md_5.bungee.api.ChatColor;
@@ -27,6 +30,7 @@ import org.bukkit.util.StringUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -278,6 +282,96 @@ public class AdminCommands extends AbstractCommandHandler {
 		new ArenaEditorMenu(plugin, user, arena).showGui();
 	}
 
+	@Command(
+		name = "oitc.perf",
+		permission = "oitc.admin.perf",
+		desc = "Show timings of the plugin or of the specified arena",
+		usage = "/oitc perf [arena name]"
+	)
+	public void perfCommand(CommandArguments arguments) {
+		final Profiler profiler = plugin.getProfiler();
+
+		if (!profiler.isEnabled()) {
+			arguments.sendMessage(chatManager.prefixedRawMessage("&cProfiler is disabled! Enable it with Profiler-Enabled in config.yml and reload."));
+			return;
+		}
+
+		String group = Profiler.GLOBAL;
+
+		if (!arguments.isArgumentsEmpty()) {
+			final Arena arena = arenaRegistry.getArena(arguments.getArgument(0));
+
+			if (arena == null) {
+				arguments.sendMessage(chatManager.prefixedMessage("commands.no_arena_like_that"));
+				return;
+			}
+
+			group = arena.getId();
+		}
+
+		arguments.sendMessage(chatManager.coloredRawMessage("&3&lOITC Timings &7(" + group + ", last " + Timing.WINDOW_SECONDS + "s)"));
+
+		boolean empty = true;
+
+		for (final Timing timing : profiler.getTimings(group).values()) {
+			final Timing.Snapshot snapshot = timing.snapshot();
+
+			if (snapshot.getCount() == 0) continue;
+
+			empty = false;
+
+			arguments.sendMessage(chatManager.coloredRawMessage(String.format(Locale.ENGLISH, " &8• &b%s &3p50 &b%.3fms &3p99 &b%.3fms &3max &b%.3fms &3calls/s &b%.1f",
+				timing.getName(), snapshot.getP50() / 1e6, snapshot.getP99() / 1e6, snapshot.getMax() / 1e6, snapshot.getCallsPerSecond())));
+		}
+
+		if (empty) {
+			arguments.sendMessage(chatManager.coloredRawMessage(" &8• &7No samples recorded yet."));
+		}
+	}
+
+	@Command(
+		name = "oitc.allocations",
+		permission = "oitc.admin.allocations",
+		desc = "Show the top allocating arena ticks and event handlers",
+		usage = "/oitc allocations [reset|dump]"
+	)
+	public void allocationsCommand(CommandArguments arguments) {
+		final AllocationProfiler profiler = plugin.getAllocationProfiler();
+
+		if (!profiler.isEnabled()) {
+			arguments.sendMessage(chatManager.prefixedRawMessage("&cAllocation profiler is disabled! Enable it with Allocation-Profiler-Enabled in config.yml and reload."));
+			return;
+		}
+
+		final String action = arguments.getArgument(0);
+
+		if ("reset".equalsIgnoreCase(action)) {
+			profiler.reset();
+			arguments.sendMessage(chatManager.prefixedRawMessage("&aAllocation samples have been reset."));
+			return;
+		}
+
+		if ("dump".equalsIgnoreCase(action)) {
+			arguments.sendMessage(chatManager.prefixedRawMessage("&aWriting allocation profile to &e" + profiler.dump().getName() + "&a."));
+			return;
+		}
+
+		final long seconds = profiler.getSeconds();
+		final List<AllocationProfiler.Site> sites = profiler.getTopSites(10);
+
+		arguments.sendMessage(chatManager.coloredRawMessage("&3&lOITC Allocations &7(exclusive, last " + seconds + "s)"));
+
+		if (sites.isEmpty()) {
+			arguments.sendMessage(chatManager.coloredRawMessage(" &8• &7No samples recorded yet."));
+			return;
+		}
+
+		for (final AllocationProfiler.Site site : sites) {
+			arguments.sendMessage(chatManager.coloredRawMessage(String.format(Locale.ENGLISH, " &8• &b%s &3total &b%.1fMB &3per call &b%.1fKB &3max &b%.1fKB &3rate &b%.1fKB/s",
+				site.getName(), site.getBytes() / 1048576D, site.getBytesPerCall() / 1024D, site.getMax() / 1024D, site.getBytes() / 1024D / seconds)));
+		}
+	}
+
 	@SuppressWarnings("deprecation")
 	@Command(
 		name = "oitc.help",
@@ -346,7 +440,11 @@ public class AdminCommands extends AbstractCommandHandler {
 				return StringUtil.copyPartialMatches(args[1], plugin.getServer().getOnlinePlayers().stream().map(Player::getName).collect(Collectors.toList()), completions);
 			}
 
-			if (Arrays.asList("delete", "edit", "join").contains(arg)) {
+			if (arg.equalsIgnoreCase("allocations")) {
+				return StringUtil.copyPartialMatches(args[1], Arrays.asList("reset", "dump"), completions);
+			}
+
+			if (Arrays.asList("delete", "edit", "join", "perf").contains(arg)) {
 				final List<String> arenas = arenaRegistry.getArenas().stream().map(Arena::getId).sorted().collect(Collectors.toList());
 
 				return StringUtil.copyPartialMatches(args[1], arenas, completions);
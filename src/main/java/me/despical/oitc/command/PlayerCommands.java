@@ -7,7 +7,6 @@ import me.despical.oitc.ConfigPreferences;
 import me.despical.oitc.api.StatsStorage;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaManager;
-import me.despical.oitc.arena.ArenaState;
 import me.despical.oitc.user.User;
 import me.despical.oitc.user.data.MySQLStatistics;
 import org.bukkit.command.CommandSender;
@@ -18,7 +17,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 
 import static me.despical.oitc.api.StatsStorage.StatisticType.*;
 
@@ -60,23 +58,7 @@ public class PlayerCommands extends AbstractCommandHandler {
 			return;
 		}
 
-		List<Arena> arenas = plugin.getArenaRegistry().getArenas()
-			.stream()
-			.filter(arena -> arena.isArenaState(ArenaState.WAITING_FOR_PLAYERS, ArenaState.STARTING))
-			.filter(arena -> arena.getPlayers().size() < arena.getMaximumPlayers())
-			.sorted(Comparator.comparing(arena -> arena.getPlayers().size()))
-			.toList();
-		Player player = arguments.getSender();
-
-		if (!arenas.isEmpty()) {
-			int index = arenas.stream().allMatch(arena -> arena.getPlayers().isEmpty()) ? ThreadLocalRandom.current().nextInt(arenas.size()) : arenas.size() - 1;
-			Arena arena = arenas.get(index);
-
-			ArenaManager.joinAttempt(player, arena);
-			return;
-		}
-
-		player.sendMessage(chatManager.prefixedMessage("commands.no_free_arenas"));
+		plugin.getMatchmakingService().enqueue(arguments.getSender());
 	}
 
 	@Command(
@@ -20,11 +20,24 @@ package me.despical.oitc.events;
 
 import me.despical.oitc.Main;
 import me.despical.oitc.arena.ArenaRegistry;
-import me.despical.oitc.events.spectator.SpectatorEvents;
 import me.despical.oitc.events.spectator.SpectatorItemEvents;
 import me.despical.oitc.handlers.ChatManager;
+import me.despical.oitc.handlers.profiler.AllocationProfiler;
+import me.despical.oitc.handlers.profiler.Profiler;
+import me.despical.oitc.handlers.profiler.Timing;
+import me.despical.oitc.handlers.profiler.jfr.GameLifecycleRecorder;
 import me.despical.oitc.user.UserManager;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
 
 /**
  * @author Despical
@@ -38,12 +51,76 @@ public abstract class EventListener implements Listener {
 	protected final ChatManager chatManager;
 	protected final UserManager userManager;
 
+	private boolean registered;
+
 	public EventListener(Main plugin) {
+		this(plugin, true);
+	}
+
+	public EventListener(Main plugin, boolean register) {
 		this.plugin = plugin;
 		this.arenaRegistry = plugin.getArenaRegistry();
 		this.chatManager = plugin.getChatManager();
 		this.userManager = plugin.getUserManager();
-		this.plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+		if (register) this.register();
+	}
+
+	public final void register() {
+		if (registered) return;
+
+		this.registered = true;
+
+		final PluginManager pluginManager = plugin.getServer().getPluginManager();
+		final Profiler profiler = plugin.getProfiler();
+		final AllocationProfiler allocationProfiler = plugin.getAllocationProfiler();
+
+		// Handlers are registered one by one so each of them can be timed by the profilers.
+		for (final Method method : getClass().getDeclaredMethods()) {
+			final EventHandler handler = method.getAnnotation(EventHandler.class);
+
+			if (handler == null || method.isBridge() || method.isSynthetic() || method.getParameterCount() != 1) continue;
+
+			final Class<?> parameter = method.getParameterTypes()[0];
+
+			if (!Event.class.isAssignableFrom(parameter)) continue;
+
+			final Class<? extends Event> eventClass = parameter.asSubclass(Event.class);
+			final String name = "event." + getClass().getSimpleName() + '#' + method.getName();
+			final Timing timing = profiler.timing(name);
+			final AllocationProfiler.Site site = allocationProfiler.site(name);
+			final MethodHandle methodHandle;
+
+			try {
+				method.setAccessible(true);
+				methodHandle = MethodHandles.lookup().unreflect(method);
+			} catch (IllegalAccessException exception) {
+				plugin.getLogger().log(Level.WARNING, "Couldn't register event handler " + method.getName(), exception);
+				continue;
+			}
+
+			pluginManager.registerEvent(eventClass, this, handler.priority(), (listener, event) -> {
+				if (!eventClass.isInstance(event)) return;
+
+				final long start = profiler.start(), allocated = allocationProfiler.start();
+
+				try {
+					methodHandle.invoke(listener, event);
+				} catch (Throwable throwable) {
+					throw new EventException(throwable);
+				} finally {
+					profiler.stop(timing, start);
+					allocationProfiler.stop(site, allocated);
+				}
+			}, plugin, handler.ignoreCancelled());
+		}
+	}
+
+	public final void unregister() {
+		if (!registered) return;
+
+		this.registered = false;
+		HandlerList.unregisterAll(this);
 	}
 
 	protected final void registerIf(boolean cond, Listener listener) {
@@ -53,7 +130,7 @@ public abstract class EventListener implements Listener {
 	}
 
 	public static void registerEvents(Main plugin) {
-		final Class<?>[] listeners = {SpectatorEvents.class, Events.class, SpectatorItemEvents.class, GameItemEvents.class};
+		final Class<?>[] listeners = {Events.class, SpectatorItemEvents.class, GameItemEvents.class, GameLifecycleRecorder.class};
 
 		try {
 			for (final Class<?> listenerAdapter : listeners) {
@@ -24,7 +24,6 @@ import me.despical.commons.compat.XMaterial;
 import me.despical.commons.miscellaneous.AttributeUtils;
 import me.despical.commons.miscellaneous.PlayerUtils;
 import me.despical.commons.reflection.XReflection;
-import me.despical.commons.serializer.InventorySerializer;
 import me.despical.commons.util.Collections;
 import me.despical.oitc.ConfigPreferences;
 import me.despical.oitc.Main;
@@ -32,6 +31,7 @@ import me.despical.oitc.api.StatsStorage;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaManager;
 import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.handlers.ChatChannelRegistry;
 import me.despical.oitc.handlers.rewards.Reward;
 import me.despical.oitc.user.User;
 import me.despical.oitc.util.Utils;
@@ -112,7 +112,7 @@ public class Events extends EventListener {
 		}
 
 		if (plugin.getOption(ConfigPreferences.Option.INVENTORY_MANAGER_ENABLED)) {
-			InventorySerializer.loadInventory(plugin, eventPlayer);
+			plugin.getInventoryManager().restoreInventoryAsync(eventPlayer);
 		}
 	}
 
@@ -124,7 +124,7 @@ public class Events extends EventListener {
 
 		final Arena arena = arenaRegistry.getArena(player);
 
-		if (arena == null || arena.getArenaState() == ArenaState.IN_GAME) {
+		if (arena == null || (arena.getArenaState() == ArenaState.IN_GAME && !arena.isBusy())) {
 			return;
 		}
 
@@ -132,17 +132,10 @@ public class Events extends EventListener {
 		player.setFireTicks(0);
 	}
 
+	// Also called after kicks, handling PlayerKickEvent would remove the user even if a later listener cancels the kick.
 	@EventHandler
 	public void onQuit(PlayerQuitEvent event) {
-		handleQuit(event.getPlayer());
-	}
-
-	@EventHandler
-	public void onKick(PlayerKickEvent event) {
-		handleQuit(event.getPlayer());
-	}
-
-	private void handleQuit(Player player) {
+		final Player player = event.getPlayer();
 		final Arena arena = arenaRegistry.getArena(player);
 
 		if (arena != null) {
@@ -151,6 +144,7 @@ public class Events extends EventListener {
 			teleportToEnd.put(player.getUniqueId(), arena);
 		}
 
+		plugin.getInventoryManager().invalidate(player);
 		userManager.removeUser(player);
 	}
 
@@ -164,10 +158,8 @@ public class Events extends EventListener {
 			return;
 		}
 
-		for (String msg : plugin.getConfig().getStringList("Whitelisted-Commands")) {
-			if (event.getMessage().contains(msg)) {
-				return;
-			}
+		if (plugin.getCommandWhitelist().isWhitelisted(event.getMessage())) {
+			return;
 		}
 
 		if (event.getPlayer().hasPermission("oitc.admin")) {
@@ -245,7 +237,7 @@ public class Events extends EventListener {
 		if (arenaRegistry.isInArena(player) && arenaRegistry.isInArena(damager)) {
 			User user = plugin.getUserManager().getUser(player);
 
-			if (user.getCooldown("respawn_protection") > 0) {
+			if (user.hasCooldown(User.Cooldown.RESPAWN_PROTECTION)) {
 				e.setDamage(0D);
 				e.setCancelled(true);
 			}
@@ -261,7 +253,7 @@ public class Events extends EventListener {
 			if (!player.getUniqueId().equals(shooter.getUniqueId())) {
 				User user = plugin.getUserManager().getUser(player);
 
-				if (user.getCooldown("respawn_protection") > 0) {
+				if (user.hasCooldown(User.Cooldown.RESPAWN_PROTECTION)) {
 					e.setCancelled(true);
 					return;
 				}
@@ -293,7 +285,7 @@ public class Events extends EventListener {
 		victimUser.addStat(StatsStorage.StatisticType.LOCAL_DEATHS, 1);
 		victimUser.addStat(StatsStorage.StatisticType.DEATHS, 1);
 		victimUser.performReward(Reward.RewardType.DEATH);
-		victimUser.setCooldown("respawn_protection", plugin.getConfig().getInt("Respawn-Protection.Invulnerable"));
+		victimUser.setCooldown(User.Cooldown.RESPAWN_PROTECTION, Math.round(plugin.getConfigPreferences().getDouble(ConfigPreferences.DoubleOption.RESPAWN_INVULNERABILITY) * 20));
 
 		plugin.getServer().getScheduler().runTaskLater(plugin, () -> victim.spigot().respawn(), 5);
 
@@ -304,6 +296,8 @@ public class Events extends EventListener {
 			return;
 		}
 
+		plugin.getMetricsManager().getKills().increment();
+
 		User killerUser = userManager.getUser(victim.getKiller());
 		killerUser.sendTitle("", chatManager.message("in_game.messages.score_subtitle"));
 		killerUser.addStat(StatsStorage.StatisticType.LOCAL_KILL_STREAK, 1);
@@ -325,7 +319,7 @@ public class Events extends EventListener {
 
 		plugin.getGameItemManager().giveArrow(killer, arena);
 
-		if (StatsStorage.getUserStats(killer, StatsStorage.StatisticType.LOCAL_KILLS) == plugin.getConfig().getInt("Winning-Score", 25)) {
+		if (StatsStorage.getUserStats(killer, StatsStorage.StatisticType.LOCAL_KILLS) == plugin.getConfigPreferences().getInt(ConfigPreferences.IntOption.WINNING_SCORE)) {
 			ArenaManager.stopGame(false, arena);
 		}
 	}
@@ -337,9 +331,9 @@ public class Events extends EventListener {
 
 		if (arena == null) return;
 
-		event.setRespawnLocation(arena.getRandomSpawnPoint());
+		event.setRespawnLocation(arena.getSpawnPoint(player));
 
-		int invisibilityDuration = plugin.getConfig().getInt("Respawn-Protection.Invisibility");
+		int invisibilityDuration = plugin.getConfigPreferences().getInt(ConfigPreferences.IntOption.RESPAWN_INVISIBILITY);
 
 		if (invisibilityDuration != 0) {
 			plugin.getServer().getScheduler().runTaskLater(plugin, () -> Utils.addPotionEffect(player, PotionEffectType.INVISIBILITY, invisibilityDuration, 0), 1);
@@ -374,7 +368,7 @@ public class Events extends EventListener {
 			return;
 		}
 
-		if (userManager.getUser(player).getArena() == null) return;
+		if (!arenaRegistry.isInArena(player)) return;
 
 		if (e.getView().getType() == InventoryType.CRAFTING || e.getView().getType() == InventoryType.PLAYER) {
 			e.setResult(Event.Result.DENY);
@@ -440,11 +434,11 @@ public class Events extends EventListener {
 	@EventHandler
 	public void onChatInGame(AsyncPlayerChatEvent event) {
 		Player player = event.getPlayer();
-		Arena arena = arenaRegistry.getArena(player);
+		ChatChannelRegistry.Channel channel = plugin.getChatChannelRegistry().getChannel(player);
 
-		if (arena == null) {
+		if (channel == null) {
 			if (!plugin.getOption(ConfigPreferences.Option.DISABLE_SEPARATE_CHAT)) {
-				arenaRegistry.getArenas().forEach(loopArena -> loopArena.getPlayers().forEach(p -> event.getRecipients().remove(p)));
+				event.getRecipients().removeAll(plugin.getChatChannelRegistry().getMembers());
 			}
 
 			return;
@@ -456,10 +450,10 @@ public class Events extends EventListener {
 			if (!plugin.getOption(ConfigPreferences.Option.DISABLE_SEPARATE_CHAT)) {
 				event.setCancelled(true);
 
-				boolean dead = userManager.getUser(player).isSpectator();
+				boolean dead = !channel.isAlive(player);
 
-				for (Player p : arena.getPlayers()) {
-					if (dead && arena.getPlayersLeft().contains(p)) {
+				for (Player p : channel.getPlayers()) {
+					if (dead && channel.isAlive(p)) {
 						continue;
 					}
 
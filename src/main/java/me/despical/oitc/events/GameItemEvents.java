@@ -6,44 +6,58 @@ import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaManager;
 import me.despical.oitc.arena.ArenaState;
 import me.despical.oitc.handlers.items.GameItem;
+import me.despical.oitc.handlers.items.GameItemManager;
 import me.despical.oitc.user.User;
+import me.despical.oitc.util.TimerWheel;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Stream;
 
 public class GameItemEvents extends EventListener {
 
-	private final Set<User> leaveConfirmations;
+	private final Map<User, TimerWheel.Timeout> leaveConfirmations;
 
 	public GameItemEvents(Main plugin) {
 		super(plugin);
-		this.leaveConfirmations = new HashSet<>();
+		this.leaveConfirmations = new HashMap<>();
+
+		final GameItemManager gameItemManager = plugin.getGameItemManager();
+		gameItemManager.registerClickHandler("leave-item", this::onLeaveItemClicked);
+		gameItemManager.registerClickHandler("force-start-item", this::onForceStartItemClicked);
+		gameItemManager.registerClickHandler("play-again", this::onPlayAgain);
 	}
 
 	@EventHandler
-	public void onLeaveItemClicked(final PlayerInteractEvent event) {
+	public void onGameItemClick(final PlayerInteractEvent event) {
 		if (event.getAction() == Action.PHYSICAL) return;
 
-		final User user = plugin.getUserManager().getUser(event.getPlayer());
-		final Arena arena = user.getArena();
+		final ItemStack itemStack = event.getItem();
+
+		if (itemStack == null) return;
+
+		final Player player = event.getPlayer();
+		final Arena arena = arenaRegistry.getArena(player);
 
 		if (arena == null) return;
-		if (event.getItem() == null) return;
 
-		final GameItem leaveItem = plugin.getGameItemManager().getGameItem("leave-item");
+		final GameItemManager gameItemManager = plugin.getGameItemManager();
+		final GameItem gameItem = gameItemManager.getGameItem(itemStack);
+
+		if (gameItem == null || gameItem.checkAction(event.getAction())) return;
+
+		final GameItemManager.ClickHandler handler = gameItemManager.getClickHandler(gameItem.getId());
 
-		if (leaveItem == null || leaveItem.checkAction(event.getAction())) return;
-		if (!leaveItem.equals(event.getItem())) return;
+		if (handler == null) return;
 
+		handler.handle(event, userManager.getUser(player), arena);
+	}
+
+	private void onLeaveItemClicked(final PlayerInteractEvent event, final User user, final Arena arena) {
 		final Player player = user.getPlayer();
 
 		if (plugin.getOption(ConfigPreferences.Option.INSTANT_LEAVE)) {
@@ -51,34 +65,19 @@ public class GameItemEvents extends EventListener {
 			return;
 		}
 
-		if (leaveConfirmations.contains(user)) {
-			this.leaveConfirmations.remove(user);
+		final TimerWheel.Timeout confirmation = leaveConfirmations.remove(user);
+
+		if (confirmation != null) {
+			confirmation.cancel();
 
 			player.sendMessage(chatManager.message("in_game.game_items.leave_item.teleport_cancelled"));
 		} else {
 			player.sendMessage(chatManager.message("in_game.game_items.leave_item.returning_lobby"));
 
-			this.leaveConfirmations.add(user);
-
-			new BukkitRunnable() {
-
-				int ticks = 0;
-
-				@Override
-				public void run() {
-					if (!leaveConfirmations.contains(user)) {
-						cancel();
-						return;
-					}
-
-					if ((ticks += 2) == 60) {
-						cancel();
-						leaveArena(player, arena);
-
-						leaveConfirmations.remove(user);
-					}
-				}
-			}.runTaskTimer(plugin, 0, 2);
+			this.leaveConfirmations.put(user, plugin.getTimerWheel().schedule(60, () -> {
+				leaveConfirmations.remove(user);
+				leaveArena(player, arena);
+			}));
 		}
 	}
 
@@ -90,21 +89,7 @@ public class GameItemEvents extends EventListener {
 		}
 	}
 
-	@EventHandler
-	public void onForceStartItemClicked(final PlayerInteractEvent event) {
-		if (event.getAction() == Action.PHYSICAL) return;
-
-		final User user = plugin.getUserManager().getUser(event.getPlayer());
-		final Arena arena = user.getArena();
-
-		if (arena == null) return;
-		if (event.getItem() == null) return;
-
-		final GameItem forceStartItem = plugin.getGameItemManager().getGameItem("force-start-item");
-
-		if (forceStartItem == null || forceStartItem.checkAction(event.getAction())) return;
-		if (!forceStartItem.equals(event.getItem())) return;
-
+	private void onForceStartItemClicked(final PlayerInteractEvent event, final User user, final Arena arena) {
 		if (arena.getPlayers().size() < 2) {
 			arena.broadcastMessage(chatManager.formatMessage(arena, "in_game.messages.lobby_messages.waiting_for_players"));
 			return;
@@ -123,44 +108,12 @@ public class GameItemEvents extends EventListener {
 		}
 	}
 
-	@EventHandler
-	public void onPlayAgain(PlayerInteractEvent event) {
-		if (event.getAction() == Action.PHYSICAL) return;
-
-		ItemStack itemStack = event.getItem();
-		Player player = event.getPlayer();
-		Arena currentArena = arenaRegistry.getArena(player);
-
-		if (currentArena == null) return;
-		if (event.getItem() == null) return;
-
-		final GameItem playAgainItem = plugin.getGameItemManager().getGameItem("play-again");
-
-		if (playAgainItem == null || playAgainItem.checkAction(event.getAction())) return;
-		if (!playAgainItem.equals(event.getItem())) return;
-
+	private void onPlayAgain(final PlayerInteractEvent event, final User user, final Arena currentArena) {
 		event.setCancelled(true);
 
-		ArenaManager.leaveAttempt(player, currentArena);
-
-		Map<Arena, Integer> arenas = new HashMap<>();
-
-		for (Arena arena : arenaRegistry.getArenas()) {
-			if (arena.isArenaState(ArenaState.WAITING_FOR_PLAYERS, ArenaState.STARTING) && arena.getPlayers().size() < 2) {
-				arenas.put(arena, arena.getPlayers().size());
-			}
-		}
-
-		if (!arenas.isEmpty()) {
-			Stream<Map.Entry<Arena, Integer>> sorted = arenas.entrySet().stream().sorted(Map.Entry.comparingByValue());
-			Arena arena = sorted.findFirst().get().getKey();
-
-			if (arena != null) {
-				ArenaManager.joinAttempt(player, arena);
-				return;
-			}
-		}
+		final Player player = user.getPlayer();
 
-		player.sendMessage(chatManager.prefixedMessage("commands.no_free_arenas"));
+		ArenaManager.leaveAttempt(player, currentArena);
+		plugin.getMatchmakingService().enqueue(player);
 	}
 }
\ No newline at end of file
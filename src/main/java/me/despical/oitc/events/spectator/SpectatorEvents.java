@@ -35,7 +35,11 @@ import org.bukkit.event.player.*;
 public class SpectatorEvents extends EventListener {
 
 	public SpectatorEvents(Main plugin) {
-		super (plugin);
+		super (plugin, false);
+	}
+
+	private boolean isSpectator(Player player) {
+		return arenaRegistry.isInArena(player) && userManager.getUser(player).isSpectator();
 	}
 
 	@EventHandler
@@ -44,7 +48,7 @@ public class SpectatorEvents extends EventListener {
 			return;
 		}
 
-		if (userManager.getUser((Player) e.getTarget()).isSpectator()) {
+		if (isSpectator((Player) e.getTarget())) {
 			e.setCancelled(true);
 			e.setTarget(null);
 		}
@@ -56,7 +60,7 @@ public class SpectatorEvents extends EventListener {
 			return;
 		}
 
-		if (userManager.getUser((Player) e.getTarget()).isSpectator()) {
+		if (isSpectator((Player) e.getTarget())) {
 			e.setCancelled(true);
 			e.setTarget(null);
 		}
@@ -64,49 +68,49 @@ public class SpectatorEvents extends EventListener {
 
 	@EventHandler
 	public void onBlockPlace(BlockPlaceEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onBlockBreak(BlockBreakEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onDropItem(PlayerDropItemEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onBucketEmpty(PlayerBucketEmptyEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onInteract(PlayerInteractEntityEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onShear(PlayerShearEntityEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onConsume(PlayerItemConsumeEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
@@ -119,7 +123,7 @@ public class SpectatorEvents extends EventListener {
 
 		Player player = (Player) event.getEntity();
 
-		if (userManager.getUser(player).isSpectator()) {
+		if (isSpectator(player)) {
 			event.setCancelled(true);
 		}
 	}
@@ -132,7 +136,7 @@ public class SpectatorEvents extends EventListener {
 
 		Player player = (Player) event.getEntity();
 
-		if (!userManager.getUser(player).isSpectator() || !arenaRegistry.isInArena(player)) {
+		if (!isSpectator(player)) {
 			return;
 		}
 
@@ -149,7 +153,7 @@ public class SpectatorEvents extends EventListener {
 
 		Player player = (Player) event.getDamager();
 
-		if (plugin.getUserManager().getUser(player).isSpectator()) {
+		if (isSpectator(player)) {
 			event.setCancelled(true);
 		}
 	}
@@ -162,21 +166,21 @@ public class SpectatorEvents extends EventListener {
 
 		Player player = (Player) event.getEntity();
 
-		if (userManager.getUser(player).isSpectator()) {
+		if (isSpectator(player)) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onPickupItem(PlayerPickupItemEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
 
 	@EventHandler
 	public void onInteract(PlayerInteractEvent event) {
-		if (userManager.getUser(event.getPlayer()).isSpectator()) {
+		if (isSpectator(event.getPlayer())) {
 			event.setCancelled(true);
 		}
 	}
@@ -24,14 +24,13 @@ import me.despical.commons.number.NumberUtils;
 import me.despical.oitc.Main;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.events.EventListener;
+import me.despical.oitc.handlers.items.GameItemManager;
 import org.bukkit.ChatColor;
 import org.bukkit.SkullType;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.block.Action;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -49,29 +48,19 @@ public class SpectatorItemEvents extends EventListener {
 
 	public SpectatorItemEvents(Main plugin) {
 		super (plugin);
-	}
 
-	@EventHandler
-	public void onSpectatorItemClick(PlayerInteractEvent e) {
-		if (e.getAction() == Action.RIGHT_CLICK_AIR || e.getAction() == Action.RIGHT_CLICK_BLOCK || e.getAction() != Action.PHYSICAL) {
-			if (!arenaRegistry.isInArena(e.getPlayer())) {
-				return;
-			}
+		final GameItemManager gameItemManager = plugin.getGameItemManager();
+		gameItemManager.registerClickHandler("teleporter-item", (event, user, arena) -> {
+			event.setCancelled(true);
 
-			ItemStack stack = e.getPlayer().getInventory().getItem(e.getPlayer().getInventory().getHeldItemSlot());
+			openSpectatorMenu(event.getPlayer().getWorld(), event.getPlayer());
+		});
 
-			if (!ItemUtils.isNamed(stack)) {
-				return;
-			}
-
-			e.setCancelled(true);
+		gameItemManager.registerClickHandler("settings-item", (event, user, arena) -> {
+			event.setCancelled(true);
 
-			if (stack.getItemMeta().getDisplayName().equalsIgnoreCase(chatManager.message("In-Game.Spectator.Spectator-Item-Name"))) {
-				openSpectatorMenu(e.getPlayer().getWorld(), e.getPlayer());
-			} else if (stack.getItemMeta().getDisplayName().equalsIgnoreCase(chatManager.message("In-Game.Spectator.Settings-Menu.Item-Name"))) {
-				new SpectatorSettingsMenu(e.getPlayer(), plugin).openInventory();
-			}
-		}
+			new SpectatorSettingsMenu(event.getPlayer(), plugin).openInventory();
+		});
 	}
 
 	private void openSpectatorMenu(World world, Player p) {
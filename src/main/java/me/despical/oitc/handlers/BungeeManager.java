@@ -18,15 +18,19 @@
 
 package me.despical.oitc.handlers;
 
+import com.google.common.io.ByteArrayDataInput;
 import com.google.common.io.ByteArrayDataOutput;
 import com.google.common.io.ByteStreams;
 import me.despical.commons.configuration.ConfigUtils;
 import me.despical.oitc.Main;
+import me.despical.oitc.api.events.game.OITCGameStateChangeEvent;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaManager;
 import me.despical.oitc.arena.ArenaRegistry;
 import me.despical.oitc.arena.ArenaState;
 import me.despical.oitc.events.EventListener;
+import me.despical.oitc.handlers.bungee.PingRateLimiter;
+import me.despical.oitc.handlers.matchmaking.ProxyMatchmaker;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -34,38 +38,68 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.server.ServerListPingEvent;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * @author Despical
  * <p>
  * Created at 02.07.2020
  */
-public class BungeeManager extends EventListener {
+public class BungeeManager extends EventListener implements PluginMessageListener {
 
-	private final String motd, hubName;
+	// How long an arena chosen by another server's matchmaker waits for its player to connect.
+	private static final long ASSIGNMENT_TIMEOUT = 600;
+
+	private final String hubName;
 	private final boolean motdEnabled, shutdownWhenGameEnds, connectToHub;
-	private final Map<ArenaState, String> gameStates;
+	private final Map<ArenaState, String> motds;
+	private final Map<UUID, String> assignedArenas;
+
+	private volatile String currentMotd;
+	private volatile int maxPlayers;
 
 	public BungeeManager(Main plugin) {
 		super(plugin);
-		this.gameStates = new EnumMap<>(ArenaState.class);
+		this.motds = new EnumMap<>(ArenaState.class);
+		this.assignedArenas = new HashMap<>();
 
 		final FileConfiguration config = ConfigUtils.getConfig(plugin, "bungee");
+		final String motd = plugin.getChatManager().coloredRawMessage(config.getString("MOTD.Message"));
 
-		this.motd = plugin.getChatManager().coloredRawMessage(config.getString("MOTD.Message"));
 		this.hubName = config.getString("Hub");
 		this.motdEnabled = config.getBoolean("MOTD.Enabled");
 		this.shutdownWhenGameEnds = config.getBoolean("Shutdown-When-Game-Ends");
 		this.connectToHub = config.getBoolean("Connect-To-Hub");
 
 		for (final ArenaState state : ArenaState.values()) {
-			gameStates.put(state, plugin.getChatManager().coloredRawMessage(config.getString("MOTD.Game-States." + state.getFormattedName())));
+			motds.put(state, motd.replace("%state%", plugin.getChatManager().coloredRawMessage(config.getString("MOTD.Game-States." + state.getFormattedName()))));
+		}
+
+		if (motdEnabled && config.getBoolean("MOTD.Rate-Limit.Enabled", true)) {
+			PingRateLimiter.register(plugin, config.getInt("MOTD.Rate-Limit.Pings-Per-Second", 5), config.getInt("MOTD.Rate-Limit.Burst", 10));
 		}
 
 		plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, "BungeeCord");
+		plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, "BungeeCord", this);
+		this.refreshMotd();
+	}
+
+	private void refreshMotd() {
+		if (arenaRegistry.getArenas().isEmpty()) {
+			this.currentMotd = null;
+			return;
+		}
+
+		final Arena bungeeArena = arenaRegistry.getBungeeArena();
+
+		this.maxPlayers = bungeeArena.getMaximumPlayers();
+		this.currentMotd = motds.get(bungeeArena.getArenaState());
 	}
 
 	public void connectToHub(final Player player) {
@@ -82,18 +116,63 @@ public class BungeeManager extends EventListener {
 		return shutdownWhenGameEnds;
 	}
 
+	@Override
+	public void onPluginMessageReceived(@NotNull String channel, @NotNull Player player, byte[] message) {
+		if (!"BungeeCord".equals(channel)) return;
+
+		final ByteArrayDataInput in = ByteStreams.newDataInput(message);
+
+		if (!ProxyMatchmaker.JOIN_SUB_CHANNEL.equals(in.readUTF())) return;
+
+		in.readShort();
+
+		final String arenaId = in.readUTF();
+		final int size = in.readShort();
+
+		for (int i = 0; i < size; i++) {
+			final UUID uuid = new UUID(in.readLong(), in.readLong());
+			final Player target = plugin.getServer().getPlayer(uuid);
+
+			if (target != null && moveToAssignedArena(target, arenaId)) continue;
+
+			assignedArenas.put(uuid, arenaId);
+			plugin.getTimerWheel().schedule(ASSIGNMENT_TIMEOUT, () -> assignedArenas.remove(uuid, arenaId));
+		}
+	}
+
+	// Bungee-cord only delivers forwarded messages to an empty server once a player connected, so the
+	// assignment can arrive after the player was already put into the Bungee arena.
+	private boolean moveToAssignedArena(Player player, String arenaId) {
+		final Arena current = arenaRegistry.getArena(player), assigned = arenaRegistry.getArena(arenaId);
+
+		if (current == null || assigned == null) return false;
+		if (current == assigned || !current.isArenaState(ArenaState.WAITING_FOR_PLAYERS, ArenaState.STARTING)) return true;
+
+		ArenaManager.leaveAttempt(player, current);
+		ArenaManager.joinAttempt(player, assigned);
+		return true;
+	}
+
+	private Arena getAssignedArena(Player player) {
+		final String arenaId = assignedArenas.remove(player.getUniqueId());
+		final Arena arena = arenaId == null ? null : arenaRegistry.getArena(arenaId);
+
+		return arena != null ? arena : arenaRegistry.getBungeeArena();
+	}
+
 	@EventHandler(priority = EventPriority.HIGH)
 	public void onServerListPing(final ServerListPingEvent event) {
-		if (!motdEnabled) return;
-
-		final ArenaRegistry arenaRegistry = plugin.getArenaRegistry();
+		final String motd = currentMotd;
 
-		if (arenaRegistry.getArenas().isEmpty()) return;
+		if (!motdEnabled || motd == null) return;
 
-		final Arena bungeeArena = arenaRegistry.getBungeeArena();
+		event.setMaxPlayers(maxPlayers);
+		event.setMotd(motd);
+	}
 
-		event.setMaxPlayers(bungeeArena.getMaximumPlayers());
-		event.setMotd(motd.replace("%state%", gameStates.get(bungeeArena.getArenaState())));
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onStateChange(OITCGameStateChangeEvent event) {
+		if (motdEnabled) this.refreshMotd();
 	}
 
 	@EventHandler(priority = EventPriority.HIGH)
@@ -103,7 +182,7 @@ public class BungeeManager extends EventListener {
 		if (arenaRegistry.getArenas().isEmpty()) return;
 
 		event.setJoinMessage("");
-		plugin.getServer().getScheduler().runTaskLater(plugin, () -> ArenaManager.joinAttempt(event.getPlayer(), arenaRegistry.getBungeeArena()), 1L);
+		plugin.getServer().getScheduler().runTaskLater(plugin, () -> ArenaManager.joinAttempt(event.getPlayer(), getAssignedArena(event.getPlayer())), 1L);
 	}
 
 	@EventHandler(priority = EventPriority.HIGH)
@@ -116,8 +195,10 @@ public class BungeeManager extends EventListener {
 
 		final Player player = event.getPlayer();
 
-		if (arenaRegistry.isInArena(player)) {
-			ArenaManager.leaveAttempt(player, arenaRegistry.getBungeeArena());
+		final Arena arena = arenaRegistry.getArena(player);
+
+		if (arena != null) {
+			ArenaManager.leaveAttempt(player, arena);
 		}
 	}
 }
\ No newline at end of file
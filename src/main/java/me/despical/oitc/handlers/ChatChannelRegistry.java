@@ -0,0 +1,119 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.handlers;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.user.User;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class ChatChannelRegistry {
+
+	private final Main plugin;
+
+	private volatile State state;
+
+	public ChatChannelRegistry(Main plugin) {
+		this.plugin = plugin;
+		this.state = new State(Set.of(), Map.of());
+	}
+
+	public void rebuild() {
+		final Set<Player> members = new HashSet<>();
+		final Map<UUID, Channel> channels = new HashMap<>();
+
+		for (Arena arena : plugin.getArenaRegistry().getArenas()) {
+			final List<Player> players = arena.getPlayers();
+
+			if (players.isEmpty()) continue;
+
+			final Set<Player> alive = new HashSet<>();
+
+			for (Player player : players) {
+				final User user = plugin.getUserManager().getUser(player);
+
+				if (user == null || !user.isSpectator()) alive.add(player);
+			}
+
+			final Channel channel = new Channel(arena, Set.copyOf(players), Set.copyOf(alive));
+
+			for (Player player : players) {
+				channels.put(player.getUniqueId(), channel);
+			}
+
+			members.addAll(players);
+		}
+
+		this.state = new State(Set.copyOf(members), Map.copyOf(channels));
+	}
+
+	public Set<Player> getMembers() {
+		return state.members;
+	}
+
+	@Nullable
+	public Channel getChannel(Player player) {
+		final State current = state;
+
+		return current.channels.isEmpty() ? null : current.channels.get(player.getUniqueId());
+	}
+
+	private static final class State {
+
+		private final Set<Player> members;
+		private final Map<UUID, Channel> channels;
+
+		State(Set<Player> members, Map<UUID, Channel> channels) {
+			this.members = members;
+			this.channels = channels;
+		}
+	}
+
+	public static final class Channel {
+
+		private final Arena arena;
+		private final Set<Player> players, alive;
+
+		Channel(Arena arena, Set<Player> players, Set<Player> alive) {
+			this.arena = arena;
+			this.players = players;
+			this.alive = alive;
+		}
+
+		public Arena getArena() {
+			return arena;
+		}
+
+		public Set<Player> getPlayers() {
+			return players;
+		}
+
+		public boolean isAlive(Player player) {
+			return alive.contains(player);
+		}
+	}
+}
\ No newline at end of file
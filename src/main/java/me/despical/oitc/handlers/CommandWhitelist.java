@@ -0,0 +1,101 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.handlers;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import org.bukkit.command.Command;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class CommandWhitelist {
+
+	private final Main plugin;
+
+	private Set<String> labels;
+
+	public CommandWhitelist(Main plugin) {
+		this.plugin = plugin;
+	}
+
+	public void reload() {
+		this.labels = null;
+	}
+
+	public boolean isWhitelisted(String message) {
+		if (labels == null) {
+			labels = compile();
+		}
+
+		if (labels.isEmpty()) return false;
+
+		final String label = extractLabel(message);
+
+		if (labels.contains(label)) return true;
+
+		final int index = label.indexOf(':');
+		return index != -1 && labels.contains(label.substring(index + 1));
+	}
+
+	private Set<String> compile() {
+		final Set<String> compiled = new HashSet<>();
+
+		for (String entry : plugin.getConfigPreferences().getList(ConfigPreferences.ListOption.WHITELISTED_COMMANDS)) {
+			final String label = extractLabel(entry);
+
+			if (label.isEmpty()) continue;
+
+			compiled.add(label);
+
+			final Command command = findCommand(label);
+
+			if (command == null) continue;
+
+			compiled.add(command.getName().toLowerCase(Locale.ENGLISH));
+
+			for (String alias : command.getAliases()) {
+				compiled.add(alias.toLowerCase(Locale.ENGLISH));
+			}
+		}
+
+		return compiled;
+	}
+
+	private Command findCommand(String label) {
+		try {
+			return plugin.getServer().getCommandMap().getCommand(label);
+		} catch (NoSuchMethodError ignored) {
+			return plugin.getServer().getPluginCommand(label);
+		}
+	}
+
+	private static String extractLabel(String message) {
+		final String trimmed = message.trim();
+		final int start = trimmed.startsWith("/") ? 1 : 0, end = trimmed.indexOf(' ');
+
+		return trimmed.substring(start, end == -1 ? trimmed.length() : end).toLowerCase(Locale.ENGLISH);
+	}
+}
\ No newline at end of file
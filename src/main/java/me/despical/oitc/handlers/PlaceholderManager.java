@@ -69,6 +69,8 @@ public class PlaceholderManager extends PlaceholderExpansion {
 
 		final User user = plugin.getUserManager().getUser(player);
 
+		if (user == null) return null;
+
 		switch (id.toLowerCase()) {
 			case "online_players":
 				return Long.toString(plugin.getArenaRegistry().getArenas().stream().map(arena -> arena.getPlayers().size()).count());
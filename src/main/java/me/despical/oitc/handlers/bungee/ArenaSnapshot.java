@@ -0,0 +1,82 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.bungee;
+
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class ArenaSnapshot {
+
+	private final String id, mapName;
+	private final ArenaState state;
+	private final int players, maxPlayers;
+
+	public ArenaSnapshot(String id, ArenaState state, int players, int maxPlayers, String mapName) {
+		this.id = id;
+		this.state = state;
+		this.players = players;
+		this.maxPlayers = maxPlayers;
+		this.mapName = mapName;
+	}
+
+	static ArenaSnapshot of(Arena arena) {
+		return new ArenaSnapshot(arena.getId(), arena.getArenaState(), arena.getPlayers().size(), arena.getMaximumPlayers(), arena.getMapName());
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public ArenaState getState() {
+		return state;
+	}
+
+	public int getPlayers() {
+		return players;
+	}
+
+	public int getMaxPlayers() {
+		return maxPlayers;
+	}
+
+	public String getMapName() {
+		return mapName;
+	}
+
+	public boolean isJoinable() {
+		return (state == ArenaState.WAITING_FOR_PLAYERS || state == ArenaState.STARTING) && players < maxPlayers;
+	}
+
+	int diff(ArenaSnapshot other) {
+		int mask = 0;
+
+		if (state != other.state) mask |= ArenaStateCodec.STATE;
+		if (players != other.players) mask |= ArenaStateCodec.PLAYERS;
+		if (maxPlayers != other.maxPlayers) mask |= ArenaStateCodec.MAX_PLAYERS;
+		if (!mapName.equals(other.mapName)) mask |= ArenaStateCodec.MAP_NAME;
+
+		return mask;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.bungee;
+
+import me.despical.oitc.arena.ArenaState;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+final class ArenaStateCodec {
+
+	static final int VERSION = 1;
+	static final int STATE = 1, PLAYERS = 1 << 1, MAX_PLAYERS = 1 << 2, MAP_NAME = 1 << 3, REMOVED = 1 << 4;
+	static final int ALL = STATE | PLAYERS | MAX_PLAYERS | MAP_NAME;
+
+	private static final ArenaState[] STATES = ArenaState.values();
+
+	private ArenaStateCodec() {
+	}
+
+	static byte[] encode(String server, long sequence, boolean full, List<Change> changes) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + changes.size() * 24);
+
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeByte(VERSION);
+			output.writeBoolean(full);
+			output.writeUTF(server);
+			writeVarLong(output, sequence);
+			writeVarLong(output, changes.size());
+
+			for (Change change : changes) {
+				final ArenaSnapshot snapshot = change.snapshot;
+
+				output.writeUTF(change.id);
+				output.writeByte(change.mask);
+
+				if ((change.mask & STATE) != 0) output.writeByte(snapshot.getState().ordinal());
+				if ((change.mask & PLAYERS) != 0) writeVarLong(output, snapshot.getPlayers());
+				if ((change.mask & MAX_PLAYERS) != 0) writeVarLong(output, snapshot.getMaxPlayers());
+				if ((change.mask & MAP_NAME) != 0) output.writeUTF(snapshot.getMapName());
+			}
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	static Frame decode(byte[] frame) throws IOException {
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(frame))) {
+			final int version = input.readUnsignedByte();
+
+			if (version != VERSION) {
+				throw new IOException("Unsupported arena state frame version " + version);
+			}
+
+			final boolean full = input.readBoolean();
+			final String server = input.readUTF();
+			final long sequence = readVarLong(input);
+			final int size = (int) readVarLong(input);
+			final List<Change> changes = new ArrayList<>(size);
+
+			for (int i = 0; i < size; i++) {
+				final String id = input.readUTF();
+				final int mask = input.readUnsignedByte();
+				final ArenaState state = (mask & STATE) != 0 ? STATES[input.readUnsignedByte()] : null;
+				final int players = (mask & PLAYERS) != 0 ? (int) readVarLong(input) : 0;
+				final int maxPlayers = (mask & MAX_PLAYERS) != 0 ? (int) readVarLong(input) : 0;
+				final String mapName = (mask & MAP_NAME) != 0 ? input.readUTF() : null;
+
+				changes.add(new Change(id, mask, new ArenaSnapshot(id, state, players, maxPlayers, mapName)));
+			}
+
+			return new Frame(server, sequence, full, changes);
+		} catch (ArrayIndexOutOfBoundsException exception) {
+			throw new IOException("Malformed arena state frame", exception);
+		}
+	}
+
+	private static void writeVarLong(DataOutput output, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			output.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		output.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInput input) throws IOException {
+		long value = 0;
+
+		for (int shift = 0; shift < 64; shift += 7) {
+			final int b = input.readUnsignedByte();
+
+			value |= (long) (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) return value;
+		}
+
+		throw new IOException("Malformed variable length number");
+	}
+
+	static final class Change {
+
+		final String id;
+		final int mask;
+		final ArenaSnapshot snapshot;
+
+		Change(String id, int mask, ArenaSnapshot snapshot) {
+			this.id = id;
+			this.mask = mask;
+			this.snapshot = snapshot;
+		}
+	}
+
+	static final class Frame {
+
+		final String server;
+		final long sequence;
+		final boolean full;
+		final List<Change> changes;
+
+		Frame(String server, long sequence, boolean full, List<Change> changes) {
+			this.server = server;
+			this.sequence = sequence;
+			this.full = full;
+			this.changes = changes;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.bungee;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.util.TimerWheel;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+/**
+ * Keeps the arena states published by game servers up to date, hub servers and
+ * their add-ons can read them instead of pinging every game server.
+ *
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class ArenaStateConsumer {
+
+	// Full states that are this far behind the last sequence come from a restarted publisher, not a late frame.
+	private static final long RESTART_GAP = 64;
+
+	private final Main plugin;
+	private final Map<String, Map<String, ArenaSnapshot>> servers;
+	private final Map<String, Long> sequences, lastSeen;
+	private final List<Listener> listeners;
+	private final long serverTimeout;
+
+	private final StateTransport transport;
+	private final TimerWheel.Timeout expiry;
+
+	public ArenaStateConsumer(Main plugin, FileConfiguration config) {
+		this.plugin = plugin;
+		this.servers = new ConcurrentHashMap<>();
+		this.sequences = new HashMap<>();
+		this.lastSeen = new HashMap<>();
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.serverTimeout = Math.max(1, config.getInt("State-Consumer.Server-Timeout", 90)) * 20L;
+		this.expiry = plugin.getTimerWheel().scheduleRepeating(20, 20, timeout -> expireServers());
+
+		if ("file".equalsIgnoreCase(config.getString("State-Consumer.Transport"))) {
+			this.transport = new FileTransport(plugin, new File(config.getString("State-Consumer.Directory", "../oitc-states")), this::accept, this::removeServer);
+		} else {
+			this.transport = new PluginMessageTransport(plugin, this::accept);
+		}
+	}
+
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	@NotNull
+	public Set<String> getServers() {
+		return Collections.unmodifiableSet(servers.keySet());
+	}
+
+	@NotNull
+	public Collection<ArenaSnapshot> getArenas(String server) {
+		return Collections.unmodifiableCollection(servers.getOrDefault(server, Map.of()).values());
+	}
+
+	@Nullable
+	public ArenaSnapshot getArena(String server, String arenaId) {
+		return servers.getOrDefault(server, Map.of()).get(arenaId);
+	}
+
+	public void accept(byte[] bytes) {
+		final ArenaStateCodec.Frame frame;
+
+		try {
+			frame = ArenaStateCodec.decode(bytes);
+		} catch (IOException exception) {
+			plugin.getLogger().log(Level.WARNING, "Received a malformed arena state frame!", exception);
+			return;
+		}
+
+		final Long last = sequences.get(frame.server);
+
+		// Joined mid-stream, deltas only make sense on top of a full state.
+		if (last == null && !frame.full) return;
+
+		// Deltas after a lost frame are still applied, the next full state fixes anything that was missed.
+		if (last != null && frame.sequence <= last && !(frame.full && last - frame.sequence > RESTART_GAP)) return;
+
+		sequences.put(frame.server, frame.sequence);
+		lastSeen.put(frame.server, plugin.getTimerWheel().currentTick());
+
+		final Map<String, ArenaSnapshot> arenas = servers.computeIfAbsent(frame.server, key -> new ConcurrentHashMap<>());
+
+		if (frame.full) {
+			final Set<String> removed = new HashSet<>(arenas.keySet());
+
+			for (ArenaStateCodec.Change change : frame.changes) {
+				removed.remove(change.id);
+			}
+
+			for (String id : removed) {
+				this.remove(frame.server, arenas, id);
+			}
+		}
+
+		for (ArenaStateCodec.Change change : frame.changes) {
+			if ((change.mask & ArenaStateCodec.REMOVED) != 0) {
+				this.remove(frame.server, arenas, change.id);
+				continue;
+			}
+
+			final ArenaSnapshot previous = arenas.get(change.id), update = change.snapshot;
+
+			// Partial change of an arena we never saw in full, wait for the next full state.
+			if (previous == null && (change.mask & ArenaStateCodec.ALL) != ArenaStateCodec.ALL) continue;
+			final ArenaSnapshot snapshot = previous == null ? update : new ArenaSnapshot(change.id,
+				(change.mask & ArenaStateCodec.STATE) != 0 ? update.getState() : previous.getState(),
+				(change.mask & ArenaStateCodec.PLAYERS) != 0 ? update.getPlayers() : previous.getPlayers(),
+				(change.mask & ArenaStateCodec.MAX_PLAYERS) != 0 ? update.getMaxPlayers() : previous.getMaxPlayers(),
+				(change.mask & ArenaStateCodec.MAP_NAME) != 0 ? update.getMapName() : previous.getMapName());
+
+			arenas.put(change.id, snapshot);
+			listeners.forEach(listener -> listener.onUpdate(frame.server, snapshot));
+		}
+
+		if (arenas.isEmpty()) {
+			servers.remove(frame.server);
+		}
+
+		// Nothing is left to track for a server without arenas, it starts over with its next full state.
+		if (frame.full && frame.changes.isEmpty()) {
+			sequences.remove(frame.server);
+			lastSeen.remove(frame.server);
+		}
+	}
+
+	public void removeServer(String server) {
+		final Map<String, ArenaSnapshot> arenas = servers.remove(server);
+
+		sequences.remove(server);
+		lastSeen.remove(server);
+
+		if (arenas == null) return;
+
+		for (String id : new ArrayList<>(arenas.keySet())) {
+			this.remove(server, arenas, id);
+		}
+	}
+
+	public void shutdown() {
+		expiry.cancel();
+		transport.close();
+	}
+
+	// Crashed or killed servers never send their empty state, so forget servers that stopped sending full states.
+	private void expireServers() {
+		final long tick = plugin.getTimerWheel().currentTick();
+		final List<String> expired = new ArrayList<>();
+
+		lastSeen.forEach((server, seen) -> {
+			if (tick - seen > serverTimeout) expired.add(server);
+		});
+
+		expired.forEach(this::removeServer);
+	}
+
+	private void remove(String server, Map<String, ArenaSnapshot> arenas, String id) {
+		final ArenaSnapshot snapshot = arenas.remove(id);
+
+		if (snapshot != null) {
+			listeners.forEach(listener -> listener.onRemove(server, snapshot));
+		}
+	}
+
+	public interface Listener {
+
+		void onUpdate(String server, ArenaSnapshot snapshot);
+
+		default void onRemove(String server, ArenaSnapshot snapshot) {
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.bungee;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.util.TimerWheel;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class ArenaStatePublisher {
+
+	private static final long PERIOD = 10L;
+
+	private final Main plugin;
+	private final String server;
+	private final StateTransport transport;
+	private final long fullStateInterval;
+	private final TimerWheel.Timeout timeout;
+
+	private Map<String, ArenaSnapshot> published;
+	private long sequence, lastFullState;
+	private boolean resync;
+
+	public ArenaStatePublisher(Main plugin, FileConfiguration config) {
+		this.plugin = plugin;
+		this.server = config.getString("State-Publisher.Server-Name", "oitc");
+		this.fullStateInterval = Math.max(1, config.getInt("State-Publisher.Full-State-Interval", 30)) * 20L;
+
+		if ("file".equalsIgnoreCase(config.getString("State-Publisher.Transport"))) {
+			this.transport = new FileTransport(plugin, new File(config.getString("State-Publisher.Directory", "../oitc-states")), server);
+		} else {
+			this.transport = new PluginMessageTransport(plugin);
+		}
+
+		this.published = new HashMap<>();
+		this.resync = true;
+		// Frames are sent far less often than every millisecond, so a restarted server always continues above its old sequence.
+		this.sequence = System.currentTimeMillis();
+		this.timeout = plugin.getTimerWheel().scheduleRepeating(PERIOD, PERIOD, task -> publish());
+	}
+
+	public String getServer() {
+		return server;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	// Nothing can be scheduled or sent while the plugin is disabling. Closing deletes the state file synchronously,
+	// plugin message consumers forget this server once it stops sending states.
+	public void shutdown() {
+		timeout.cancel();
+		transport.close();
+	}
+
+	private void publish() {
+		final long now = plugin.getTimerWheel().currentTick();
+		final Map<String, ArenaSnapshot> current = new HashMap<>();
+		final List<ArenaStateCodec.Change> deltas = new ArrayList<>();
+
+		for (Arena arena : plugin.getArenaRegistry().getArenas()) {
+			final ArenaSnapshot snapshot = ArenaSnapshot.of(arena), previous = published.get(arena.getId());
+			final int mask = previous == null ? ArenaStateCodec.ALL : snapshot.diff(previous);
+
+			current.put(snapshot.getId(), snapshot);
+
+			if (mask != 0) deltas.add(new ArenaStateCodec.Change(snapshot.getId(), mask, snapshot));
+		}
+
+		for (String id : published.keySet()) {
+			if (!current.containsKey(id)) deltas.add(new ArenaStateCodec.Change(id, ArenaStateCodec.REMOVED, null));
+		}
+
+		final boolean fullStateDue = resync || now - lastFullState >= fullStateInterval;
+
+		if (deltas.isEmpty() && !fullStateDue) return;
+
+		final boolean full = fullStateDue || !transport.supportsDeltas();
+		final List<ArenaStateCodec.Change> changes;
+
+		if (full) {
+			changes = new ArrayList<>(current.size());
+
+			for (ArenaSnapshot snapshot : current.values()) {
+				changes.add(new ArenaStateCodec.Change(snapshot.getId(), ArenaStateCodec.ALL, snapshot));
+			}
+		} else {
+			changes = deltas;
+		}
+
+		if (!transport.publish(ArenaStateCodec.encode(server, ++sequence, full, changes))) {
+			this.resync = true;
+			return;
+		}
+
+		this.published = current;
+		this.resync = false;
+
+		if (full) this.lastFullState = now;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.bungee;
+
+import me.despical.oitc.Main;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class FileTransport implements StateTransport {
+
+	private static final String EXTENSION = ".oitc";
+
+	private final Main plugin;
+	private final File directory, file;
+	private final Consumer<byte[]> receiver;
+	private final Consumer<String> removal;
+	private final Map<String, Long> modified;
+	private final AtomicReference<byte[]> pending;
+
+	private BukkitTask task;
+
+	public FileTransport(Main plugin, File directory, String server) {
+		this.plugin = plugin;
+		this.directory = directory;
+		this.file = new File(directory, server + EXTENSION);
+		this.receiver = null;
+		this.removal = null;
+		this.modified = null;
+		this.pending = new AtomicReference<>();
+		this.directory.mkdirs();
+	}
+
+	public FileTransport(Main plugin, File directory, Consumer<byte[]> receiver, Consumer<String> removal) {
+		this.plugin = plugin;
+		this.directory = directory;
+		this.file = null;
+		this.receiver = receiver;
+		this.removal = removal;
+		this.modified = new HashMap<>();
+		this.pending = new AtomicReference<>();
+		this.directory.mkdirs();
+		this.task = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::scan, 20L, 20L);
+	}
+
+	@Override
+	public boolean supportsDeltas() {
+		return false;
+	}
+
+	@Override
+	public boolean publish(byte[] frame) {
+		if (pending.getAndSet(frame) == null) {
+			plugin.getServer().getScheduler().runTaskAsynchronously(plugin, this::flush);
+		}
+
+		return true;
+	}
+
+	@Override
+	public void close() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+
+		if (file == null) return;
+
+		synchronized (this) {
+			pending.set(null);
+
+			try {
+				Files.deleteIfExists(file.toPath());
+			} catch (IOException exception) {
+				plugin.getLogger().log(Level.WARNING, "Couldn't delete arena state file!", exception);
+			}
+		}
+	}
+
+	// Only the latest frame matters, frames published while a write is pending replace each other.
+	private synchronized void flush() {
+		final byte[] frame = pending.getAndSet(null);
+
+		if (frame == null) return;
+
+		final Path target = file.toPath(), temp = target.resolveSibling(file.getName() + ".tmp");
+
+		try {
+			Files.write(temp, frame);
+
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException exception) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException exception) {
+			plugin.getLogger().log(Level.WARNING, "Couldn't write arena state file!", exception);
+		}
+	}
+
+	// Only the modification times are polled, a file is read when its server published a change.
+	private void scan() {
+		final File[] files = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+		final Set<String> present = new HashSet<>();
+
+		if (files == null) return;
+
+		for (File state : files) {
+			final String name = state.getName();
+			final long lastModified = state.lastModified();
+			final Long previous = modified.put(name, lastModified);
+
+			present.add(name);
+
+			if (previous != null && previous == lastModified) continue;
+
+			try {
+				final byte[] frame = Files.readAllBytes(state.toPath());
+
+				plugin.getServer().getScheduler().runTask(plugin, () -> receiver.accept(frame));
+			} catch (IOException exception) {
+				modified.remove(name);
+			}
+		}
+
+		for (String name : new HashSet<>(modified.keySet())) {
+			if (present.contains(name)) continue;
+
+			modified.remove(name);
+
+			final String server = name.substring(0, name.length() - EXTENSION.length());
+
+			plugin.getServer().getScheduler().runTask(plugin, () -> removal.accept(server));
+		}
+	}
+}
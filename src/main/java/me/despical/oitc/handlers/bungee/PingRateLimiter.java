@@ -0,0 +1,107 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.handlers.bungee;
+
+import com.destroystokyo.paper.event.server.PaperServerListPingEvent;
+import me.despical.oitc.Main;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class PingRateLimiter implements Listener {
+
+	private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final Map<InetAddress, Bucket> buckets;
+	private final double tokensPerNano, burst;
+
+	private PingRateLimiter(int pingsPerSecond, int burst) {
+		this.buckets = new ConcurrentHashMap<>();
+		this.tokensPerNano = Math.max(1, pingsPerSecond) / 1e9;
+		this.burst = Math.max(1, burst);
+	}
+
+	public static void register(Main plugin, int pingsPerSecond, int burst) {
+		if (!isSupported()) return;
+
+		final PingRateLimiter limiter = new PingRateLimiter(pingsPerSecond, burst);
+
+		plugin.getServer().getPluginManager().registerEvents(limiter, plugin);
+		plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, limiter::cleanUp, 1200, 1200);
+	}
+
+	@EventHandler(priority = EventPriority.LOWEST)
+	public void onPing(PaperServerListPingEvent event) {
+		final InetAddress address = event.getAddress();
+
+		if (address == null) return;
+
+		final long now = System.nanoTime();
+
+		if (!buckets.computeIfAbsent(address, key -> new Bucket(burst, now)).tryAcquire(now, tokensPerNano, burst)) {
+			event.setCancelled(true);
+		}
+	}
+
+	private void cleanUp() {
+		final long now = System.nanoTime();
+
+		buckets.values().removeIf(bucket -> now - bucket.lastRefill > IDLE_NANOS);
+	}
+
+	private static boolean isSupported() {
+		try {
+			Class.forName("com.destroystokyo.paper.event.server.PaperServerListPingEvent");
+			return true;
+		} catch (ClassNotFoundException exception) {
+			return false;
+		}
+	}
+
+	private static final class Bucket {
+
+		private double tokens;
+		private volatile long lastRefill;
+
+		Bucket(double tokens, long lastRefill) {
+			this.tokens = tokens;
+			this.lastRefill = lastRefill;
+		}
+
+		synchronized boolean tryAcquire(long now, double tokensPerNano, double burst) {
+			tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+			lastRefill = now;
+
+			if (tokens < 1) return false;
+
+			tokens--;
+			return true;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.bungee;
+
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import me.despical.oitc.Main;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class PluginMessageTransport implements StateTransport, PluginMessageListener {
+
+	static final String CHANNEL = "BungeeCord", SUB_CHANNEL = "OITC-ArenaState";
+
+	private final Main plugin;
+	private final Consumer<byte[]> receiver;
+
+	public PluginMessageTransport(Main plugin) {
+		this(plugin, null);
+	}
+
+	public PluginMessageTransport(Main plugin, Consumer<byte[]> receiver) {
+		this.plugin = plugin;
+		this.receiver = receiver;
+
+		plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, CHANNEL);
+
+		if (receiver != null) {
+			plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, CHANNEL, this);
+		}
+	}
+
+	@Override
+	public boolean supportsDeltas() {
+		return true;
+	}
+
+	// Plugin messages need a player to travel through, frames are dropped while the server is empty.
+	@Override
+	public boolean publish(byte[] frame) {
+		if (plugin.getServer().getOnlinePlayers().isEmpty()) return false;
+
+		final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		out.writeUTF("Forward");
+		out.writeUTF("ALL");
+		out.writeUTF(SUB_CHANNEL);
+		out.writeShort(frame.length);
+		out.write(frame);
+
+		plugin.getServer().sendPluginMessage(plugin, CHANNEL, out.toByteArray());
+		return true;
+	}
+
+	@Override
+	public void onPluginMessageReceived(@NotNull String channel, @NotNull Player player, byte[] message) {
+		if (!CHANNEL.equals(channel)) return;
+
+		final ByteArrayDataInput in = ByteStreams.newDataInput(message);
+
+		if (!SUB_CHANNEL.equals(in.readUTF())) return;
+
+		final byte[] frame = new byte[in.readShort() & 0xFFFF];
+		in.readFully(frame);
+
+		receiver.accept(frame);
+	}
+
+	@Override
+	public void close() {
+		if (receiver != null) {
+			plugin.getServer().getMessenger().unregisterIncomingPluginChannel(plugin, CHANNEL, this);
+		}
+	}
+}
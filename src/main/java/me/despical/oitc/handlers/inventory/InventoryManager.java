@@ -0,0 +1,267 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.handlers.inventory;
+
+import me.despical.commons.serializer.InventorySerializer;
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class InventoryManager {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final Main plugin;
+	private final File folder;
+	private final Map<UUID, byte[]> snapshots;
+	private final Set<String> doNotRestore;
+	private final ExecutorService ioExecutor;
+
+	public InventoryManager(Main plugin) {
+		this.plugin = plugin;
+		this.folder = new File(plugin.getDataFolder(), "inventories");
+		this.snapshots = new HashMap<>();
+		this.doNotRestore = new HashSet<>();
+		this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "OITC Inventory I/O"));
+		this.reload();
+	}
+
+	public void reload() {
+		this.doNotRestore.clear();
+
+		for (String element : plugin.getConfigPreferences().getList(ConfigPreferences.ListOption.DO_NOT_RESTORE)) {
+			this.doNotRestore.add(element.toLowerCase(Locale.ENGLISH));
+		}
+	}
+
+	public void saveInventory(Player player) {
+		final byte[] snapshot;
+
+		try {
+			snapshot = serialize(player);
+		} catch (IOException exception) {
+			plugin.getLogger().log(Level.WARNING, "Couldn't serialize inventory of " + player.getName(), exception);
+			return;
+		}
+
+		this.store(player, snapshot);
+	}
+
+	public void restoreInventory(Player player) {
+		final UUID uuid = player.getUniqueId();
+		final byte[] snapshot = snapshots.remove(uuid);
+
+		if (snapshot != null) {
+			apply(player, snapshot);
+			deleteFile(uuid);
+			return;
+		}
+
+		// Tasks can't be scheduled while the plugin is disabling, so this is the only place that still reads synchronously.
+		if (!plugin.isEnabled()) {
+			applyOrLoad(player, readFile(getFile(uuid)));
+			return;
+		}
+
+		restoreInventoryAsync(player);
+	}
+
+	public void restoreInventoryAsync(Player player) {
+		final UUID uuid = player.getUniqueId();
+
+		if (snapshots.containsKey(uuid)) {
+			restoreInventory(player);
+			return;
+		}
+
+		final File file = getFile(uuid);
+
+		ioExecutor.execute(() -> {
+			final byte[] snapshot = readFile(file);
+
+			plugin.getServer().getScheduler().runTask(plugin, () -> {
+				if (!player.isOnline()) return;
+
+				// Joined an arena while the file was being read, the join snapshot holds the cleared inventory so keep this one instead.
+				if (snapshot != null && plugin.getArenaRegistry().isInArena(player)) {
+					store(player, snapshot);
+					return;
+				}
+
+				applyOrLoad(player, snapshot);
+			});
+		});
+	}
+
+	public void invalidate(Player player) {
+		snapshots.remove(player.getUniqueId());
+	}
+
+	public void shutdown() {
+		ioExecutor.shutdown();
+
+		try {
+			if (!ioExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+				plugin.getLogger().warning("Timed out while writing pending inventory snapshots!");
+			}
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void store(Player player, byte[] snapshot) {
+		final File file = getFile(player.getUniqueId());
+
+		snapshots.put(player.getUniqueId(), snapshot);
+		ioExecutor.execute(() -> {
+			try {
+				if (!folder.exists()) folder.mkdirs();
+
+				Files.write(file.toPath(), snapshot);
+			} catch (IOException exception) {
+				plugin.getLogger().log(Level.WARNING, "Couldn't write inventory snapshot of " + player.getName(), exception);
+			}
+		});
+	}
+
+	private void applyOrLoad(Player player, byte[] snapshot) {
+		if (snapshot == null) {
+			InventorySerializer.loadInventory(plugin, player);
+			return;
+		}
+
+		apply(player, snapshot);
+		deleteFile(player.getUniqueId());
+	}
+
+	private File getFile(UUID uuid) {
+		return new File(folder, uuid + ".bin");
+	}
+
+	private void deleteFile(UUID uuid) {
+		final File file = getFile(uuid);
+
+		ioExecutor.execute(() -> {
+			try {
+				Files.deleteIfExists(file.toPath());
+			} catch (IOException exception) {
+				plugin.getLogger().log(Level.WARNING, "Couldn't delete inventory snapshot " + file.getName(), exception);
+			}
+		});
+	}
+
+	private byte[] readFile(File file) {
+		if (!file.exists()) return null;
+
+		try {
+			return Files.readAllBytes(file.toPath());
+		} catch (IOException exception) {
+			plugin.getLogger().log(Level.WARNING, "Couldn't read inventory snapshot " + file.getName(), exception);
+			return null;
+		}
+	}
+
+	private byte[] serialize(Player player) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+		final PlayerInventory inventory = player.getInventory();
+
+		try (BukkitObjectOutputStream output = new BukkitObjectOutputStream(bytes)) {
+			output.writeInt(FORMAT_VERSION);
+			output.writeObject(inventory.getContents());
+			output.writeObject(inventory.getArmorContents());
+			output.writeObject(new ArrayList<>(player.getActivePotionEffects()));
+			output.writeUTF(player.getGameMode().name());
+			output.writeInt(player.getFoodLevel());
+			output.writeFloat(player.getSaturation());
+			output.writeFloat(player.getExp());
+			output.writeInt(player.getLevel());
+			output.writeDouble(player.getHealth());
+			output.writeDouble(player.getMaxHealth());
+			output.writeDouble(player.getHealthScale());
+			output.writeBoolean(player.getAllowFlight());
+			output.writeInt(player.getFireTicks());
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void apply(Player player, byte[] snapshot) {
+		try (BukkitObjectInputStream input = new BukkitObjectInputStream(new ByteArrayInputStream(snapshot))) {
+			if (input.readInt() != FORMAT_VERSION) {
+				plugin.getLogger().warning("Skipping inventory snapshot of " + player.getName() + " with an unknown format!");
+				return;
+			}
+
+			final PlayerInventory inventory = player.getInventory();
+			inventory.clear();
+			inventory.setContents((ItemStack[]) input.readObject());
+			inventory.setArmorContents((ItemStack[]) input.readObject());
+
+			player.getActivePotionEffects().forEach(effect -> player.removePotionEffect(effect.getType()));
+			player.addPotionEffects((Collection<PotionEffect>) input.readObject());
+
+			final GameMode gameMode = GameMode.valueOf(input.readUTF());
+			final int foodLevel = input.readInt();
+			final float saturation = input.readFloat(), exp = input.readFloat();
+			final int level = input.readInt();
+			final double health = input.readDouble(), maxHealth = input.readDouble(), healthScale = input.readDouble();
+			final boolean allowFlight = input.readBoolean();
+			final int fireTicks = input.readInt();
+
+			if (shouldRestore("game-mode")) player.setGameMode(gameMode);
+			if (shouldRestore("hunger")) player.setFoodLevel(foodLevel);
+			if (shouldRestore("saturation")) player.setSaturation(saturation);
+			if (shouldRestore("exp")) player.setExp(exp);
+			if (shouldRestore("level")) player.setLevel(level);
+			if (shouldRestore("max-health")) player.setMaxHealth(maxHealth);
+			if (shouldRestore("health")) player.setHealth(Math.min(health, player.getMaxHealth()));
+			if (shouldRestore("health-scale")) player.setHealthScale(healthScale);
+			if (shouldRestore("allow-flight")) player.setAllowFlight(allowFlight);
+			if (shouldRestore("fire-ticks")) player.setFireTicks(fireTicks);
+
+			player.updateInventory();
+		} catch (IOException | ClassNotFoundException | IllegalArgumentException exception) {
+			plugin.getLogger().log(Level.WARNING, "Couldn't restore inventory snapshot of " + player.getName(), exception);
+		}
+	}
+
+	private boolean shouldRestore(String element) {
+		return !doNotRestore.contains(element);
+	}
+}
\ No newline at end of file
@@ -38,11 +38,13 @@ import java.util.stream.Collectors;
  */
 public class GameItem {
 
+	private final String id;
 	private final ItemStack itemStack;
 	private final int slot;
 	private final List<Action> actions;
 
-	public GameItem(String displayName, String material, int slot, List<String> lore, List<String> actions) {
+	public GameItem(String id, String displayName, String material, int slot, List<String> lore, List<String> actions) {
+		this.id = id;
 		this.itemStack = new ItemBuilder(Utils.getItem(material))
 			.name(displayName)
 			.lore(lore)
@@ -53,7 +55,9 @@ public class GameItem {
 		this.actions = actions.stream().map(Action::valueOf).collect(Collectors.toList());
 	}
 
-	public GameItem(String displayName, String material, int slot, List<String> lore, Map<Enchantment, Integer> enchants) {
+	public GameItem(String id, String displayName, String material, int slot, List<String> lore, Map<Enchantment, Integer> enchants) {
+		this.id = id;
+
 		ItemBuilder builder = new ItemBuilder(Utils.getItem(material))
 			.name(displayName)
 			.lore(lore)
@@ -67,6 +71,10 @@ public class GameItem {
 		this.actions = new ArrayList<>();
 	}
 
+	public String getId() {
+		return id;
+	}
+
 	public ItemStack getItemStack() {
 		return itemStack;
 	}
@@ -21,14 +21,23 @@ package me.despical.oitc.handlers.items;
 import me.despical.commons.compat.XMaterial;
 import me.despical.commons.configuration.ConfigUtils;
 import me.despical.commons.number.NumberUtils;
+import me.despical.commons.reflection.XReflection;
 import me.despical.oitc.Main;
 import me.despical.oitc.arena.Arena;
+import me.despical.oitc.user.User;
 import me.despical.oitc.util.Utils;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -43,16 +52,24 @@ import java.util.stream.Collectors;
  */
 public class GameItemManager {
 
+	private static final int STORAGE_SIZE = 36;
+
 	private final Main plugin;
 	private final GameItem arrowItem;
+	private final boolean tagsSupported;
 	private final Map<String, List<GameItem>> kits;
 	private final Map<String, GameItem> gameItems;
+	private final Map<String, ClickHandler> clickHandlers;
+	private final Map<String, ResolvedKit> resolvedKits;
 
 	public GameItemManager(final Main plugin) {
 		this.plugin = plugin;
-		this.arrowItem = new GameItem("&7Arrow", "ARROW", 7, new ArrayList<>(), new ArrayList<>());
+		this.arrowItem = new GameItem("arrow", "&7Arrow", "ARROW", 7, new ArrayList<>(), new ArrayList<>());
+		this.tagsSupported = XReflection.supports(14);
 		this.kits = new HashMap<>();
 		this.gameItems = new HashMap<>();
+		this.clickHandlers = new HashMap<>();
+		this.resolvedKits = new HashMap<>();
 		this.registerItems();
 	}
 
@@ -60,30 +77,75 @@ public class GameItemManager {
 		return this.gameItems.get(id);
 	}
 
-	public void giveKit(Player player, Arena arena) {
-		if (player == null) return;
+	@Nullable
+	public GameItem getGameItem(final ItemStack itemStack) {
+		if (itemStack == null || !itemStack.hasItemMeta()) return null;
+
+		if (!tagsSupported) {
+			for (final GameItem gameItem : gameItems.values()) {
+				if (gameItem.equals(itemStack)) return gameItem;
+			}
+
+			return null;
+		}
 
-		player.getInventory().clear();
+		final String id = ItemTag.read(itemStack.getItemMeta());
+		return id == null ? null : gameItems.get(id);
+	}
 
-		String kitId = kits.containsKey(arena.getId()) ? arena.getId() : "default";
-		kits.get(kitId).forEach(item -> Utils.addItem(player, item.getItemStack(), item.getSlot()));
+	public void registerClickHandler(final String id, final ClickHandler handler) {
+		this.clickHandlers.put(id, handler);
+	}
 
-		player.updateInventory();
+	@Nullable
+	public ClickHandler getClickHandler(final String id) {
+		return this.clickHandlers.get(id);
+	}
+
+	public void giveKit(Player player, Arena arena) {
+		if (player == null) return;
+
+		player.getInventory().setContents(getResolvedKit(arena).contents);
 	}
 
 	public void giveArrow(Player player, Arena arena) {
-		String kitId = kits.containsKey(arena.getId()) ? arena.getId() : "default";
-		Material arrowMaterial = XMaterial.ARROW.parseMaterial();
-		GameItem arrow = kits.get(kitId).stream().filter(item -> item.getItemStack().getType() == arrowMaterial).findFirst().orElse(arrowItem);
+		final ResolvedKit kit = getResolvedKit(arena);
 
-		Utils.addItem(player, arrow.getItemStack(), arrow.getSlot());
+		Utils.addItem(player, kit.arrow, kit.arrowSlot);
 	}
 
 	public void reloadItems() {
 		this.gameItems.clear();
+		this.kits.clear();
+		this.resolvedKits.clear();
 		this.registerItems();
 	}
 
+	private ResolvedKit getResolvedKit(Arena arena) {
+		return resolvedKits.computeIfAbsent(arena.getId(), this::resolveKit);
+	}
+
+	private ResolvedKit resolveKit(String arenaId) {
+		final List<GameItem> kitItems = kits.getOrDefault(arenaId, kits.getOrDefault("default", new ArrayList<>()));
+		final Material arrowMaterial = XMaterial.ARROW.parseMaterial();
+		final ItemStack[] contents = new ItemStack[STORAGE_SIZE];
+		GameItem arrow = arrowItem;
+
+		for (final GameItem item : kitItems) {
+			final int slot = item.getSlot();
+
+			if (slot < 0 || slot >= STORAGE_SIZE) continue;
+
+			contents[slot] = item.getItemStack();
+
+			if (arrow == arrowItem && item.getItemStack().getType() == arrowMaterial) {
+				arrow = item;
+			}
+		}
+
+		return new ResolvedKit(contents, arrow.getItemStack(), arrow.getSlot());
+	}
+
 	private void registerItems() {
 		final FileConfiguration config = ConfigUtils.getConfig(plugin, "items");
 
@@ -98,8 +160,9 @@ public class GameItemManager {
 
 			for (final String id : section.getKeys(false)) {
 				final String path = String.format("items.%s.", id);
-				final GameItem gameItem = new GameItem(config.getString(path + "name"), config.getString(path + "material"), config.getInt(path + "slot"), config.getStringList(path + "lore"), config.getStringList(path + "actions"));
+				final GameItem gameItem = new GameItem(id, config.getString(path + "name"), config.getString(path + "material"), config.getInt(path + "slot"), config.getStringList(path + "lore"), config.getStringList(path + "actions"));
 
+				this.tagItem(gameItem);
 				this.gameItems.put(id, gameItem);
 			}
 		}
@@ -128,7 +191,7 @@ public class GameItemManager {
 				}
 
 				final Map<Enchantment, Integer> enchants = config.getStringList(path + "enchantments").stream().collect(Collectors.toMap(value -> Enchantment.getByName(value.split(":")[0]), value -> NumberUtils.getInt(value.split(":")[1], 1)));
-				final GameItem gameItem = new GameItem(config.getString(path + "name"), config.getString(path + "material"), slot, config.getStringList(path + "lore"), enchants);
+				final GameItem gameItem = new GameItem(arenaId + "." + slotPath, config.getString(path + "name"), config.getString(path + "material"), slot, config.getStringList(path + "lore"), enchants);
 
 				kitItems.add(gameItem);
 			}
@@ -136,4 +199,49 @@ public class GameItemManager {
 			kits.put(arenaId, kitItems);
 		}
 	}
+
+	private void tagItem(final GameItem gameItem) {
+		if (!tagsSupported) return;
+
+		final ItemStack itemStack = gameItem.getItemStack();
+		final ItemMeta meta = itemStack.getItemMeta();
+
+		if (meta == null) return;
+
+		ItemTag.write(meta, gameItem.getId());
+		itemStack.setItemMeta(meta);
+	}
+
+	// Only loaded once tags are supported, NamespacedKey doesn't exist on older servers.
+	private static final class ItemTag {
+
+		private static final NamespacedKey KEY = new NamespacedKey(JavaPlugin.getPlugin(Main.class), "game-item");
+
+		static String read(ItemMeta meta) {
+			return meta.getPersistentDataContainer().get(KEY, PersistentDataType.STRING);
+		}
+
+		static void write(ItemMeta meta, String id) {
+			meta.getPersistentDataContainer().set(KEY, PersistentDataType.STRING, id);
+		}
+	}
+
+	private static final class ResolvedKit {
+
+		private final ItemStack[] contents;
+		private final ItemStack arrow;
+		private final int arrowSlot;
+
+		ResolvedKit(ItemStack[] contents, ItemStack arrow, int arrowSlot) {
+			this.contents = contents;
+			this.arrow = arrow;
+			this.arrowSlot = arrowSlot;
+		}
+	}
+
+	@FunctionalInterface
+	public interface ClickHandler {
+
+		void handle(PlayerInteractEvent event, User user, Arena arena);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.matchmaking;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaManager;
+import me.despical.oitc.arena.ArenaState;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class MatchmakingService {
+
+	private final Main plugin;
+	private final SlotIndex<Arena> index;
+	private final Queue<Player> queue;
+	private final Set<UUID> queued;
+
+	private Strategy strategy;
+	private PartyProvider partyProvider;
+	private RemoteMatchmaker remoteMatchmaker;
+
+	public MatchmakingService(Main plugin) {
+		this.plugin = plugin;
+		this.index = new SlotIndex<>();
+		this.queue = new ArrayDeque<>();
+		this.queued = new HashSet<>();
+		this.partyProvider = PartyProvider.NONE;
+		this.reload();
+
+		plugin.getTimerWheel().scheduleRepeating(1, 1, timeout -> assignQueued());
+	}
+
+	public void reload() {
+		this.strategy = Strategy.fromString(plugin.getConfig().getString("Matchmaking.Strategy"));
+	}
+
+	public Strategy getStrategy() {
+		return strategy;
+	}
+
+	public void setPartyProvider(@Nullable PartyProvider partyProvider) {
+		this.partyProvider = partyProvider == null ? PartyProvider.NONE : partyProvider;
+	}
+
+	public void setRemoteMatchmaker(@Nullable RemoteMatchmaker remoteMatchmaker) {
+		this.remoteMatchmaker = remoteMatchmaker;
+	}
+
+	/**
+	 * Re-indexes the arena after its state, players or capacity have changed.
+	 */
+	public void update(Arena arena) {
+		if (!arena.isReady() || !arena.isArenaState(ArenaState.WAITING_FOR_PLAYERS, ArenaState.STARTING)) {
+			index.remove(arena);
+			return;
+		}
+
+		index.update(arena, arena.getMaximumPlayers() - arena.getPlayers().size());
+	}
+
+	public void remove(Arena arena) {
+		index.remove(arena);
+	}
+
+	@Nullable
+	public Arena findArena(int size) {
+		Arena arena;
+
+		// The index is updated on every change, the check only guards against arenas changed behind our back.
+		while ((arena = index.find(size, strategy)) != null) {
+			final int freeSlots = arena.getMaximumPlayers() - arena.getPlayers().size();
+
+			if (freeSlots == index.getFreeSlots(arena) && arena.isArenaState(ArenaState.WAITING_FOR_PLAYERS, ArenaState.STARTING)) {
+				return arena;
+			}
+
+			this.update(arena);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Queues the player and its party, all queued players are matched together on the next tick.
+	 */
+	public void enqueue(Player player) {
+		if (queued.add(player.getUniqueId())) {
+			queue.add(player);
+		}
+	}
+
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	private void assignQueued() {
+		Player player;
+
+		while ((player = queue.poll()) != null) {
+			queued.remove(player.getUniqueId());
+
+			if (!player.isOnline() || plugin.getArenaRegistry().isInArena(player)) continue;
+
+			final List<Player> group = new ArrayList<>();
+
+			for (Player member : partyProvider.getParty(player)) {
+				if (member.isOnline() && (member == player || !plugin.getArenaRegistry().isInArena(member)) && !group.contains(member)) {
+					group.add(member);
+				}
+			}
+
+			if (!group.contains(player)) group.add(0, player);
+
+			// Party members are matched with this group, they shouldn't be matched again if joining fails.
+			for (Player member : group) {
+				if (queued.remove(member.getUniqueId())) queue.remove(member);
+			}
+
+			this.assign(group);
+		}
+	}
+
+	private void assign(List<Player> group) {
+		final Arena arena = findArena(group.size());
+
+		if (arena != null) {
+			for (Player member : group) {
+				ArenaManager.joinAttempt(member, arena);
+			}
+
+			return;
+		}
+
+		if (remoteMatchmaker != null && plugin.getOption(ConfigPreferences.Option.MATCHMAKING_USE_OTHER_SERVERS) && remoteMatchmaker.assign(group, strategy)) {
+			group.forEach(member -> member.sendMessage(plugin.getChatManager().prefixedMessage("commands.sending_to_other_server")));
+			return;
+		}
+
+		group.forEach(member -> member.sendMessage(plugin.getChatManager().prefixedMessage("commands.no_free_arenas")));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.matchmaking;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import me.despical.oitc.Main;
+import me.despical.oitc.handlers.bungee.ArenaSnapshot;
+import me.despical.oitc.handlers.bungee.ArenaStateConsumer;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Places groups into arenas of other servers using the states received by the
+ * {@link ArenaStateConsumer} and sends them there through Bungee-cord. The chosen
+ * arena is forwarded to the target server first, which joins the group into it.
+ *
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class ProxyMatchmaker implements RemoteMatchmaker, ArenaStateConsumer.Listener {
+
+	public static final String JOIN_SUB_CHANNEL = "OITC-Join";
+
+	// Gives the forwarded arena time to reach the target server before the group connects.
+	private static final long CONNECT_DELAY = 5;
+
+	private final Main plugin;
+	private final SlotIndex<RemoteArena> index;
+
+	public ProxyMatchmaker(Main plugin, ArenaStateConsumer consumer) {
+		this.plugin = plugin;
+		this.index = new SlotIndex<>();
+
+		plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, "BungeeCord");
+
+		for (String server : consumer.getServers()) {
+			consumer.getArenas(server).forEach(snapshot -> onUpdate(server, snapshot));
+		}
+
+		consumer.addListener(this);
+	}
+
+	@Override
+	public void onUpdate(String server, ArenaSnapshot snapshot) {
+		index.update(new RemoteArena(server, snapshot.getId()), snapshot.isJoinable() ? snapshot.getMaxPlayers() - snapshot.getPlayers() : 0);
+	}
+
+	@Override
+	public void onRemove(String server, ArenaSnapshot snapshot) {
+		index.remove(new RemoteArena(server, snapshot.getId()));
+	}
+
+	@Override
+	public boolean assign(List<Player> group, Strategy strategy) {
+		final RemoteArena arena = index.find(group.size(), strategy);
+
+		if (arena == null) return false;
+
+		// Reserve the slots until the next state of that server arrives.
+		index.update(arena, index.getFreeSlots(arena) - group.size());
+
+		this.forwardArena(group, arena);
+
+		plugin.getTimerWheel().schedule(CONNECT_DELAY, () -> {
+			for (Player player : group) {
+				if (!player.isOnline()) continue;
+
+				final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+				out.writeUTF("Connect");
+				out.writeUTF(arena.server);
+
+				player.sendPluginMessage(plugin, "BungeeCord", out.toByteArray());
+			}
+		});
+
+		return true;
+	}
+
+	private void forwardArena(List<Player> group, RemoteArena arena) {
+		final ByteArrayDataOutput data = ByteStreams.newDataOutput();
+		data.writeUTF(arena.id);
+		data.writeShort(group.size());
+
+		for (Player player : group) {
+			data.writeLong(player.getUniqueId().getMostSignificantBits());
+			data.writeLong(player.getUniqueId().getLeastSignificantBits());
+		}
+
+		final byte[] bytes = data.toByteArray();
+		final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		out.writeUTF("Forward");
+		out.writeUTF(arena.server);
+		out.writeUTF(JOIN_SUB_CHANNEL);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+
+		group.get(0).sendPluginMessage(plugin, "BungeeCord", out.toByteArray());
+	}
+
+	private static final class RemoteArena {
+
+		private final String server, id;
+
+		private RemoteArena(String server, String id) {
+			this.server = server;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof RemoteArena arena && server.equals(arena.server) && id.equals(arena.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(server, id);
+		}
+	}
+}
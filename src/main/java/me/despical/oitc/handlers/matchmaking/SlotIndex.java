@@ -0,0 +1,85 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.matchmaking;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Indexes joinable targets by their free slots, so the target for a group of
+ * any size is found in O(log n) for both strategies.
+ *
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+final class SlotIndex<T> {
+
+	private final TreeMap<Integer, Set<T>> buckets;
+	private final Map<T, Integer> slots;
+
+	SlotIndex() {
+		this.buckets = new TreeMap<>();
+		this.slots = new HashMap<>();
+	}
+
+	void update(T target, int freeSlots) {
+		final Integer previous = slots.get(target);
+
+		if (previous != null && previous == freeSlots) return;
+
+		this.remove(target);
+
+		if (freeSlots <= 0) return;
+
+		buckets.computeIfAbsent(freeSlots, key -> new LinkedHashSet<>()).add(target);
+		slots.put(target, freeSlots);
+	}
+
+	void remove(T target) {
+		final Integer previous = slots.remove(target);
+
+		if (previous == null) return;
+
+		final Set<T> bucket = buckets.get(previous);
+
+		bucket.remove(target);
+
+		if (bucket.isEmpty()) buckets.remove(previous);
+	}
+
+	int getFreeSlots(T target) {
+		return slots.getOrDefault(target, 0);
+	}
+
+	@Nullable
+	T find(int size, Strategy strategy) {
+		final Map.Entry<Integer, Set<T>> entry = strategy == Strategy.BALANCED ? buckets.lastEntry() : buckets.ceilingEntry(size);
+
+		if (entry == null || entry.getKey() < size) return null;
+
+		return entry.getValue().iterator().next();
+	}
+
+	int size() {
+		return slots.size();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class Gauge extends Metric {
+
+	private final String label;
+	private final Supplier<Map<String, ? extends Number>> supplier;
+
+	private volatile Map<String, ? extends Number> samples = Map.of();
+
+	Gauge(String name, String help, String label, Supplier<Map<String, ? extends Number>> supplier) {
+		super(name, help);
+		this.label = label;
+		this.supplier = supplier;
+	}
+
+	void sample() {
+		this.samples = Map.copyOf(supplier.get());
+	}
+
+	@Override
+	protected String getType() {
+		return "gauge";
+	}
+
+	@Override
+	protected void write(StringBuilder builder) {
+		for (Map.Entry<String, ? extends Number> entry : samples.entrySet()) {
+			builder.append(name);
+
+			if (label != null) {
+				builder.append('{').append(label).append("=\"").append(escape(entry.getKey())).append("\"}");
+			}
+
+			builder.append(' ').append(format(entry.getValue().doubleValue())).append('\n');
+		}
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+}
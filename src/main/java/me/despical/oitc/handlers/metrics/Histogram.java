@@ -0,0 +1,89 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class Histogram extends Metric {
+
+	private final double[] bounds;
+	private final LongAdder[] buckets;
+	private final LongAdder count;
+	private final DoubleAdder sum;
+
+	Histogram(String name, String help, double... bounds) {
+		super(name, help);
+		this.bounds = bounds.clone();
+		this.buckets = new LongAdder[bounds.length];
+		this.count = new LongAdder();
+		this.sum = new DoubleAdder();
+
+		Arrays.sort(this.bounds);
+		Arrays.setAll(this.buckets, i -> new LongAdder());
+	}
+
+	public void observe(double value) {
+		for (int i = 0; i < bounds.length; i++) {
+			if (value <= bounds[i]) {
+				buckets[i].increment();
+				break;
+			}
+		}
+
+		count.increment();
+		sum.add(value);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public double getSum() {
+		return sum.sum();
+	}
+
+	@Override
+	protected String getType() {
+		return "histogram";
+	}
+
+	@Override
+	protected void write(StringBuilder builder) {
+		long cumulative = 0;
+
+		for (int i = 0; i < bounds.length; i++) {
+			cumulative += buckets[i].sum();
+			builder.append(name).append("_bucket{le=\"").append(format(bounds[i])).append("\"} ").append(cumulative).append('\n');
+		}
+
+		final long total = Math.max(cumulative, count.sum());
+
+		builder.append(name).append("_bucket{le=\"+Inf\"} ").append(total).append('\n');
+		builder.append(name).append("_sum ").append(format(sum.sum())).append('\n');
+		builder.append(name).append("_count ").append(total).append('\n');
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.metrics;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public abstract class Metric {
+
+	protected final String name, help;
+
+	protected Metric(String name, String help) {
+		this.name = name;
+		this.help = help;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	protected abstract String getType();
+
+	protected abstract void write(StringBuilder builder);
+
+	final void render(StringBuilder builder) {
+		builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		builder.append("# TYPE ").append(name).append(' ').append(getType()).append('\n');
+
+		this.write(builder);
+	}
+
+	static String format(double value) {
+		if (value == Math.rint(value) && !Double.isInfinite(value)) {
+			return Long.toString((long) value);
+		}
+
+		return Double.toString(value);
+	}
+}
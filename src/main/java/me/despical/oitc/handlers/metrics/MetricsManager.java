@@ -0,0 +1,216 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class MetricsManager {
+
+	private static final double[] LATENCY_BUCKETS = {.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5};
+	private static final double[] GAME_LENGTH_BUCKETS = {60, 120, 180, 300, 450, 600, 900, 1200};
+
+	private final Main plugin;
+	private final File file;
+	private final MetricsRegistry registry;
+	private final Counter kills, scoreboardRenders, databaseOperations;
+	private final Histogram databaseLatency, gameLength;
+
+	private BukkitTask task;
+	private HttpServer server;
+	private long lastKills, lastSampledAt;
+	private double killsPerMinute;
+	private volatile byte[] lastExport = new byte[0];
+
+	public MetricsManager(Main plugin) {
+		this.plugin = plugin;
+		this.file = new File(plugin.getDataFolder(), "metrics.prom");
+		this.registry = new MetricsRegistry();
+		this.kills = registry.counter("oitc_kills_total", "Total number of kills in all arenas.");
+		this.scoreboardRenders = registry.counter("oitc_scoreboard_renders_total", "Total number of scoreboard renders.");
+		this.databaseOperations = registry.counter("oitc_database_operations_total", "Total number of statistic loads and saves.");
+		this.databaseLatency = registry.histogram("oitc_database_query_seconds", "Latency of database queries.", LATENCY_BUCKETS);
+		this.gameLength = registry.histogram("oitc_game_length_seconds", "Length of finished games.", GAME_LENGTH_BUCKETS);
+
+		registry.gauge("oitc_arenas", "Number of arenas by state.", "state", this::countArenas);
+		registry.gauge("oitc_players_in_game", "Number of players in arenas.", () -> plugin.getArenaRegistry().getArenas().stream().mapToInt(arena -> arena.getPlayers().size()).sum());
+		registry.gauge("oitc_kills_per_minute", "Kills per minute since the previous sample.", () -> killsPerMinute);
+		registry.gauge("oitc_database_pending_queries", "Number of database queries waiting to be executed.", () -> plugin.getUserManager().getDatabase().getPendingQueries());
+		registry.gauge("oitc_reward_queue_depth", "Number of reward commands waiting to be executed.", () -> plugin.getRewardsFactory().getRewardQueue().getQueueDepth());
+		registry.gauge("oitc_game_length_average_seconds", "Average length of finished games.", () -> gameLength.getCount() == 0 ? 0 : gameLength.getSum() / gameLength.getCount());
+
+		this.reload();
+	}
+
+	public void reload() {
+		this.stop();
+
+		final ConfigPreferences preferences = plugin.getConfigPreferences();
+
+		if (!preferences.getOption(ConfigPreferences.Option.METRICS_ENABLED)) return;
+
+		final long interval = Math.max(1, preferences.getInt(ConfigPreferences.IntOption.METRICS_INTERVAL)) * 20L;
+
+		this.task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::collect, interval, interval);
+
+		if (preferences.getOption(ConfigPreferences.Option.METRICS_HTTP_ENABLED)) {
+			this.startServer(preferences.getInt(ConfigPreferences.IntOption.METRICS_HTTP_PORT));
+		}
+	}
+
+	public void shutdown() {
+		this.stop();
+	}
+
+	@NotNull
+	public MetricsRegistry getRegistry() {
+		return registry;
+	}
+
+	@NotNull
+	public Counter getKills() {
+		return kills;
+	}
+
+	@NotNull
+	public Counter getScoreboardRenders() {
+		return scoreboardRenders;
+	}
+
+	@NotNull
+	public Counter getDatabaseOperations() {
+		return databaseOperations;
+	}
+
+	@NotNull
+	public Histogram getDatabaseLatency() {
+		return databaseLatency;
+	}
+
+	@NotNull
+	public Histogram getGameLength() {
+		return gameLength;
+	}
+
+	private void collect() {
+		final long now = System.nanoTime(), total = kills.get();
+
+		if (lastSampledAt != 0) {
+			killsPerMinute = (total - lastKills) * 60D / ((now - lastSampledAt) / 1E9);
+		}
+
+		this.lastKills = total;
+		this.lastSampledAt = now;
+
+		registry.sampleGauges();
+		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, this::export);
+	}
+
+	private void export() {
+		final byte[] bytes = registry.render().getBytes(StandardCharsets.UTF_8);
+		final Path target = file.toPath(), temp = target.resolveSibling(file.getName() + ".tmp");
+
+		this.lastExport = bytes;
+
+		try {
+			Files.write(temp, bytes);
+
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException exception) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException exception) {
+			plugin.getLogger().log(Level.WARNING, "Couldn't write metrics file!", exception);
+		}
+	}
+
+	private void startServer(int port) {
+		try {
+			this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+			this.server.createContext("/metrics", exchange -> {
+				final byte[] body = lastExport;
+
+				exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+				exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+
+				try (OutputStream output = exchange.getResponseBody()) {
+					output.write(body);
+				}
+			});
+			this.server.start();
+		} catch (IOException exception) {
+			this.server = null;
+
+			plugin.getLogger().log(Level.WARNING, "Couldn't start metrics endpoint on port " + port + "!", exception);
+		}
+	}
+
+	private void stop() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+	}
+
+	private Map<String, Integer> countArenas() {
+		final Map<String, Integer> counts = new HashMap<>();
+
+		for (ArenaState state : ArenaState.values()) {
+			counts.put(state.name().toLowerCase(Locale.ENGLISH), 0);
+		}
+
+		for (Arena arena : plugin.getArenaRegistry().getArenas()) {
+			counts.merge(arena.getArenaState().name().toLowerCase(Locale.ENGLISH), 1, Integer::sum);
+		}
+
+		return counts;
+	}
+}
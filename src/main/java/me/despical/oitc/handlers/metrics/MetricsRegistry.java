@@ -0,0 +1,81 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class MetricsRegistry {
+
+	private final Map<String, Metric> metrics;
+
+	public MetricsRegistry() {
+		this.metrics = new ConcurrentSkipListMap<>();
+	}
+
+	public Counter counter(String name, String help) {
+		return this.register(new Counter(name, help));
+	}
+
+	public Histogram histogram(String name, String help, double... bounds) {
+		return this.register(new Histogram(name, help, bounds));
+	}
+
+	public Gauge gauge(String name, String help, Supplier<? extends Number> supplier) {
+		return this.register(new Gauge(name, help, null, () -> Map.of("", supplier.get())));
+	}
+
+	public Gauge gauge(String name, String help, String label, Supplier<Map<String, ? extends Number>> supplier) {
+		return this.register(new Gauge(name, help, label, supplier));
+	}
+
+	// Gauges read live game state, so they have to be sampled on the main thread.
+	public void sampleGauges() {
+		for (Metric metric : metrics.values()) {
+			if (metric instanceof Gauge gauge) {
+				gauge.sample();
+			}
+		}
+	}
+
+	public String render() {
+		final StringBuilder builder = new StringBuilder(2048);
+
+		for (Metric metric : metrics.values()) {
+			metric.render(builder);
+		}
+
+		return builder.toString();
+	}
+
+	private <T extends Metric> T register(T metric) {
+		if (metrics.putIfAbsent(metric.getName(), metric) != null) {
+			throw new IllegalArgumentException("Metric " + metric.getName() + " is already registered!");
+		}
+
+		return metric;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.profiler;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class AllocationProfiler {
+
+	private static final DateTimeFormatter FILE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+	private final Main plugin;
+	private final Map<String, Site> sites;
+	private final com.sun.management.ThreadMXBean threads;
+	private final ThreadLocal<Nesting> nesting;
+
+	private volatile boolean enabled;
+	private volatile long since;
+
+	public AllocationProfiler(Main plugin) {
+		this.plugin = plugin;
+		this.sites = new ConcurrentHashMap<>();
+		this.nesting = ThreadLocal.withInitial(Nesting::new);
+		this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported() ? bean : null;
+		this.reload();
+	}
+
+	public void reload() {
+		final boolean enable = plugin.getOption(ConfigPreferences.Option.ALLOCATION_PROFILER_ENABLED);
+
+		if (enable && threads == null) {
+			plugin.getLogger().warning("Allocation profiler is not supported by this JVM!");
+		}
+
+		this.enabled = enable && threads != null;
+
+		if (enabled) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+
+		this.reset();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public long start() {
+		if (!enabled) return -1L;
+
+		nesting.get().push();
+		return threads.getCurrentThreadAllocatedBytes();
+	}
+
+	// Sites are exclusive, bytes of sites sampled inside another one (e.g. events fired during an arena tick) are only counted once.
+	public void stop(Site site, long start) {
+		if (start == -1L) return;
+
+		final long total = threads.getCurrentThreadAllocatedBytes() - start;
+		final long allocated = Math.max(0, total - nesting.get().pop(total));
+
+		site.calls.increment();
+		site.bytes.add(allocated);
+		site.max.accumulate(allocated);
+	}
+
+	public Site site(String name) {
+		return sites.computeIfAbsent(name, Site::new);
+	}
+
+	public void reset() {
+		sites.values().forEach(Site::reset);
+		this.since = System.currentTimeMillis();
+	}
+
+	public List<Site> getTopSites(int limit) {
+		final List<Site> top = new ArrayList<>();
+
+		for (Site site : sites.values()) {
+			if (site.getCalls() > 0) top.add(site);
+		}
+
+		top.sort(Comparator.comparingLong(Site::getBytes).reversed());
+		return top.size() > limit ? top.subList(0, limit) : top;
+	}
+
+	public long getSeconds() {
+		return Math.max(1, (System.currentTimeMillis() - since) / 1000);
+	}
+
+	public File dump() {
+		final File file = new File(plugin.getDataFolder(), "allocations-" + LocalDateTime.now().format(FILE_FORMAT) + ".txt");
+		final StringBuilder builder = new StringBuilder();
+		final long seconds = getSeconds();
+
+		builder.append("# OITC allocation profile, ").append(seconds).append(" seconds\n");
+		builder.append("# Bytes are exclusive, allocations of nested sites are not counted again in their parents.\n");
+		builder.append(String.format(Locale.ENGLISH, "%-60s %12s %16s %14s %14s %14s%n", "site", "calls", "total bytes", "bytes/call", "max bytes", "bytes/s"));
+
+		for (Site site : getTopSites(Integer.MAX_VALUE)) {
+			builder.append(String.format(Locale.ENGLISH, "%-60s %12d %16d %14d %14d %14d%n", site.name, site.getCalls(), site.getBytes(),
+				site.getBytesPerCall(), site.getMax(), site.getBytes() / seconds));
+		}
+
+		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+			try {
+				Files.write(file.toPath(), builder.toString().getBytes(StandardCharsets.UTF_8));
+			} catch (IOException exception) {
+				plugin.getLogger().log(Level.WARNING, "Couldn't write allocation profile!", exception);
+			}
+		});
+
+		return file;
+	}
+
+	private static final class Nesting {
+
+		private long[] parents = new long[8];
+		private int depth;
+		private long nested;
+
+		void push() {
+			if (depth == parents.length) {
+				parents = Arrays.copyOf(parents, depth * 2);
+			}
+
+			parents[depth++] = nested;
+			nested = 0;
+		}
+
+		// Returns the bytes of the sites nested in the current one and adds its total to the enclosing site.
+		long pop(long total) {
+			final long children = nested;
+
+			nested = depth == 0 ? 0 : parents[--depth] + total;
+			return children;
+		}
+	}
+
+	public static final class Site {
+
+		private final String name;
+		private final LongAdder calls, bytes;
+		private final LongAccumulator max;
+
+		private Site(String name) {
+			this.name = name;
+			this.calls = new LongAdder();
+			this.bytes = new LongAdder();
+			this.max = new LongAccumulator(Math::max, 0);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getCalls() {
+			return calls.sum();
+		}
+
+		public long getBytes() {
+			return bytes.sum();
+		}
+
+		public long getBytesPerCall() {
+			final long count = getCalls();
+
+			return count == 0 ? 0 : getBytes() / count;
+		}
+
+		public long getMax() {
+			return max.get();
+		}
+
+		private void reset() {
+			calls.reset();
+			bytes.reset();
+			max.reset();
+		}
+	}
+}
\ No newline at end of file
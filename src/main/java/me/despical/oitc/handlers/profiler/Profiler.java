@@ -0,0 +1,89 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.profiler;
+
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import me.despical.oitc.arena.Arena;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class Profiler {
+
+	public static final String GLOBAL = "global";
+
+	private final Main plugin;
+	private final Map<String, Map<String, Timing>> groups;
+
+	private volatile boolean enabled;
+
+	public Profiler(Main plugin) {
+		this.plugin = plugin;
+		this.groups = new ConcurrentHashMap<>();
+		this.reload();
+	}
+
+	public void reload() {
+		this.enabled = plugin.getOption(ConfigPreferences.Option.PROFILER_ENABLED);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	public void stop(Timing timing, long start) {
+		if (start == 0L) return;
+
+		final long now = System.nanoTime();
+		timing.record(now, now - start);
+	}
+
+	public Timing timing(String name) {
+		return this.timing(GLOBAL, name);
+	}
+
+	public Timing timing(Arena arena, String name) {
+		return this.timing(arena.getId(), name);
+	}
+
+	public Map<String, Timing> getTimings(String group) {
+		return Collections.unmodifiableMap(groups.getOrDefault(group, Map.of()));
+	}
+
+	public void removeGroup(Arena arena) {
+		groups.remove(arena.getId());
+	}
+
+	private Timing timing(String group, String name) {
+		return groups.computeIfAbsent(group, key -> new ConcurrentSkipListMap<>()).computeIfAbsent(name, Timing::new);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.profiler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class Timing {
+
+	public static final int WINDOW_SECONDS = 15;
+
+	private static final int SLOTS = WINDOW_SECONDS + 1, BUCKETS = 256;
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final String name;
+	private final long createdAt;
+	private final AtomicReference<Data> data;
+
+	Timing(String name) {
+		this.name = name;
+		this.createdAt = System.nanoTime() / SECOND;
+		this.data = new AtomicReference<>();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	void record(long now, long nanos) {
+		Data current = data.get();
+
+		if (current == null) {
+			data.compareAndSet(null, new Data());
+			current = data.get();
+		}
+
+		final long second = now / SECOND;
+		final int slot = (int) (second % SLOTS);
+		final long epoch = current.epochs.get(slot);
+
+		if (epoch != second && current.epochs.compareAndSet(slot, epoch, second)) {
+			for (int i = slot * BUCKETS, end = i + BUCKETS; i < end; i++) {
+				current.counts.set(i, 0);
+			}
+
+			current.maxes.set(slot, 0);
+		}
+
+		current.counts.incrementAndGet(slot * BUCKETS + bucket(nanos));
+		current.maxes.accumulateAndGet(slot, nanos, Math::max);
+	}
+
+	public Snapshot snapshot() {
+		final Data current = data.get();
+
+		if (current == null) return Snapshot.EMPTY;
+
+		final long second = System.nanoTime() / SECOND;
+		final long[] merged = new long[BUCKETS];
+		long count = 0, max = 0;
+
+		for (int slot = 0; slot < SLOTS; slot++) {
+			final long epoch = current.epochs.get(slot);
+
+			if (epoch > second || second - epoch >= WINDOW_SECONDS) continue;
+
+			for (int i = 0; i < BUCKETS; i++) {
+				final long value = current.counts.get(slot * BUCKETS + i);
+
+				merged[i] += value;
+				count += value;
+			}
+
+			max = Math.max(max, current.maxes.get(slot));
+		}
+
+		if (count == 0) return Snapshot.EMPTY;
+
+		final long seconds = Math.max(1, Math.min(WINDOW_SECONDS, second - createdAt + 1));
+		return new Snapshot(count, (double) count / seconds, Math.min(max, percentile(merged, count, .5)), Math.min(max, percentile(merged, count, .99)), max);
+	}
+
+	private static long percentile(long[] buckets, long count, double percentile) {
+		final long rank = Math.max(1, (long) Math.ceil(count * percentile));
+		long seen = 0;
+
+		for (int i = 0; i < buckets.length; i++) {
+			if ((seen += buckets[i]) >= rank) return value(i);
+		}
+
+		return value(buckets.length - 1);
+	}
+
+	// Four sub-buckets per power of two, which keeps every bucket within 25% of its value.
+	private static int bucket(long nanos) {
+		if (nanos < 4) return (int) Math.max(0, nanos);
+
+		final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		return (exponent << 2) | (int) ((nanos >>> (exponent - 2)) & 3);
+	}
+
+	private static long value(int bucket) {
+		if (bucket < 8) return bucket;
+
+		return ((5L + (bucket & 3)) << ((bucket >>> 2) - 2)) - 1;
+	}
+
+	private static final class Data {
+
+		private final AtomicLongArray epochs = new AtomicLongArray(SLOTS);
+		private final AtomicLongArray counts = new AtomicLongArray(SLOTS * BUCKETS);
+		private final AtomicLongArray maxes = new AtomicLongArray(SLOTS);
+
+		Data() {
+			for (int i = 0; i < SLOTS; i++) {
+				epochs.set(i, -1);
+			}
+		}
+	}
+
+	public static final class Snapshot {
+
+		static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0);
+
+		private final long count, p50, p99, max;
+		private final double callsPerSecond;
+
+		Snapshot(long count, double callsPerSecond, long p50, long p99, long max) {
+			this.count = count;
+			this.callsPerSecond = callsPerSecond;
+			this.p50 = p50;
+			this.p99 = p99;
+			this.max = max;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public double getCallsPerSecond() {
+			return callsPerSecond;
+		}
+
+		public long getP50() {
+			return p50;
+		}
+
+		public long getP99() {
+			return p99;
+		}
+
+		public long getMax() {
+			return max;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.handlers.profiler.jfr;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.api.events.game.OITCGameStartEvent;
+import me.despical.oitc.api.events.game.OITCGameStopEvent;
+import me.despical.oitc.arena.Arena;
+import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.events.EventListener;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class GameLifecycleRecorder extends EventListener {
+
+	public GameLifecycleRecorder(Main plugin) {
+		super(plugin);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onGameStart(OITCGameStartEvent event) {
+		final GameStartEvent record = new GameStartEvent();
+
+		if (!record.isEnabled()) return;
+
+		final Arena arena = event.getArena();
+
+		record.arenaId = arena.getId();
+		record.playerCount = arena.getPlayers().size();
+		record.commit();
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onGameStop(OITCGameStopEvent event) {
+		final GameStopEvent record = new GameStopEvent();
+
+		if (!record.isEnabled()) return;
+
+		final Arena arena = event.getArena();
+
+		record.arenaId = arena.getId();
+		record.playerCount = arena.getPlayers().size();
+		record.reason = event.getStopReason().name();
+		record.gameLength = arena.getArenaState() == ArenaState.IN_GAME ? arena.getGameplayTime() - arena.getTimer() : 0;
+		record.commit();
+	}
+}
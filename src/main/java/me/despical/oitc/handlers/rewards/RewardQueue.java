@@ -0,0 +1,204 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.handlers.rewards;
+
+import me.despical.oitc.Main;
+import me.despical.oitc.user.User;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public class RewardQueue {
+
+	private final Main plugin;
+	private final Deque<QueuedCommand> queue;
+	private final Map<String, QueuedCommand> pendingMerges;
+	private final List<String> coalescePrefixes;
+
+	private int commandsPerTick;
+	private long timeBudget;
+	private BukkitTask drainTask;
+
+	private long executedCommands, totalLatency, maxLatency, totalWaitTime;
+
+	public RewardQueue(Main plugin) {
+		this.plugin = plugin;
+		this.queue = new ArrayDeque<>();
+		this.pendingMerges = new HashMap<>();
+		this.coalescePrefixes = new ArrayList<>();
+	}
+
+	public void loadSettings(FileConfiguration config) {
+		this.commandsPerTick = Math.max(1, config.getInt("Reward-Queue.Commands-Per-Tick", 10));
+		this.timeBudget = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getInt("Reward-Queue.Time-Budget", 2)));
+		this.coalescePrefixes.clear();
+
+		for (String prefix : config.getStringList("Reward-Queue.Coalesce")) {
+			this.coalescePrefixes.add(prefix.toLowerCase(Locale.ENGLISH).trim() + ' ');
+		}
+	}
+
+	public void enqueue(User user, String command) {
+		final QueuedCommand merged = tryCoalesce(user, command);
+
+		if (merged == null) {
+			queue.add(new QueuedCommand(command));
+		}
+
+		if (drainTask == null) {
+			drainTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+		}
+	}
+
+	private QueuedCommand tryCoalesce(User user, String command) {
+		if (coalescePrefixes.isEmpty()) return null;
+
+		final String lowerCase = command.toLowerCase(Locale.ENGLISH);
+
+		if (coalescePrefixes.stream().noneMatch(lowerCase::startsWith)) return null;
+
+		final int index = command.lastIndexOf(' ');
+
+		if (index == -1) return null;
+
+		final BigDecimal amount;
+
+		try {
+			amount = new BigDecimal(command.substring(index + 1));
+		} catch (NumberFormatException exception) {
+			return null;
+		}
+
+		final String base = command.substring(0, index), key = user.getUniqueId() + ":" + base;
+		final QueuedCommand pending = pendingMerges.get(key);
+
+		if (pending != null) {
+			pending.amount = pending.amount.add(amount);
+			return pending;
+		}
+
+		final QueuedCommand queuedCommand = new QueuedCommand(key, base, amount);
+
+		pendingMerges.put(key, queuedCommand);
+		queue.add(queuedCommand);
+		return queuedCommand;
+	}
+
+	private void drain() {
+		final long deadline = System.nanoTime() + timeBudget;
+		int executed = 0;
+		QueuedCommand command;
+
+		while (executed++ < commandsPerTick && (command = queue.poll()) != null) {
+			if (execute(command) >= deadline) break;
+		}
+
+		if (queue.isEmpty() && drainTask != null) {
+			drainTask.cancel();
+			drainTask = null;
+		}
+	}
+
+	private long execute(QueuedCommand command) {
+		if (command.key != null) {
+			pendingMerges.remove(command.key);
+		}
+
+		final long start = System.nanoTime();
+
+		try {
+			plugin.getServer().dispatchCommand(plugin.getServer().getConsoleSender(), command.toString());
+		} catch (Exception exception) {
+			plugin.getLogger().log(Level.WARNING, "Couldn't execute reward command: " + command, exception);
+		}
+
+		final long end = System.nanoTime(), latency = end - start;
+
+		executedCommands++;
+		totalLatency += latency;
+		totalWaitTime += start - command.queuedAt;
+		maxLatency = Math.max(maxLatency, latency);
+		return end;
+	}
+
+	public void flush() {
+		QueuedCommand command;
+
+		while ((command = queue.poll()) != null) {
+			execute(command);
+		}
+
+		if (drainTask != null) {
+			drainTask.cancel();
+			drainTask = null;
+		}
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public long getExecutedCommands() {
+		return executedCommands;
+	}
+
+	public long getAverageLatency() {
+		return executedCommands == 0 ? 0 : totalLatency / executedCommands;
+	}
+
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	public long getAverageWaitTime() {
+		return executedCommands == 0 ? 0 : totalWaitTime / executedCommands;
+	}
+
+	private static final class QueuedCommand {
+
+		private final String key, base;
+		private final long queuedAt;
+		private BigDecimal amount;
+
+		QueuedCommand(String command) {
+			this(null, command, null);
+		}
+
+		QueuedCommand(String key, String base, BigDecimal amount) {
+			this.key = key;
+			this.base = base;
+			this.amount = amount;
+			this.queuedAt = System.nanoTime();
+		}
+
+		@Override
+		public String toString() {
+			return amount == null ? base : base + ' ' + amount.toPlainString();
+		}
+	}
+}
\ No newline at end of file
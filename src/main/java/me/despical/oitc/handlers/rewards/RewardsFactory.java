@@ -22,15 +22,14 @@ import me.despical.commons.configuration.ConfigUtils;
 import me.despical.commons.engine.ScriptEngine;
 import me.despical.oitc.Main;
 import me.despical.oitc.arena.Arena;
+import me.despical.oitc.handlers.profiler.Timing;
 import me.despical.oitc.user.User;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
 
 /**
  * @author Despical
@@ -40,45 +39,59 @@ import java.util.stream.Collectors;
 public class RewardsFactory {
 
 	private final Main plugin;
-	private final Set<Reward> rewards;
+	private final Map<Reward.RewardType, Reward> rewards;
+	private final RewardQueue rewardQueue;
+	private final Timing dispatchTiming;
 
 	public RewardsFactory(final Main plugin) {
 		this.plugin = plugin;
-		this.rewards = new HashSet<>();
+		this.rewards = new EnumMap<>(Reward.RewardType.class);
+		this.rewardQueue = new RewardQueue(plugin);
+		this.dispatchTiming = plugin.getProfiler().timing("rewards.dispatch");
 		this.registerRewards();
 	}
 
 	public void performReward(final User user, final Reward.RewardType type) {
-		final List<Reward> rewardList = rewards.stream().filter(rew -> rew.getType() == type).collect(Collectors.toList());
-
-		if (rewardList.isEmpty()) return;
-
-		for (final Reward mainRewards : rewardList) {
-			for (final Reward.SubReward reward : mainRewards.getRewards()){
-				if (ThreadLocalRandom.current().nextInt(0, 100) > reward.getChance()) continue;
-
-				final Arena arena = user.getArena();
-				final Player player = user.getPlayer();
-				final String command = formatCommandPlaceholders(reward, user);
-
-				switch (reward.getExecutor()) {
-					case 1:
-						plugin.getServer().dispatchCommand(plugin.getServer().getConsoleSender(), command);
-						break;
-					case 2:
-						player.performCommand(command);
-						break;
-					case 3:
-						final ScriptEngine engine = new ScriptEngine();
-						engine.setValue("player", player);
-						engine.setValue("server", plugin.getServer());
-						engine.setValue("arena", arena);
-						engine.execute(command);
-				}
+		final Reward mainRewards = rewards.get(type);
+
+		if (mainRewards == null) return;
+
+		final long start = plugin.getProfiler().start();
+
+		this.dispatch(user, mainRewards);
+
+		plugin.getProfiler().stop(dispatchTiming, start);
+	}
+
+	private void dispatch(final User user, final Reward mainRewards) {
+		for (final Reward.SubReward reward : mainRewards.getRewards()) {
+			if (ThreadLocalRandom.current().nextInt(0, 100) > reward.getChance()) continue;
+
+			final Arena arena = user.getArena();
+			final Player player = user.getPlayer();
+			final String command = formatCommandPlaceholders(reward, user);
+
+			switch (reward.getExecutor()) {
+				case 1:
+					rewardQueue.enqueue(user, command);
+					break;
+				case 2:
+					player.performCommand(command);
+					break;
+				case 3:
+					final ScriptEngine engine = new ScriptEngine();
+					engine.setValue("player", player);
+					engine.setValue("server", plugin.getServer());
+					engine.setValue("arena", arena);
+					engine.execute(command);
 			}
 		}
 	}
 
+	public RewardQueue getRewardQueue() {
+		return rewardQueue;
+	}
+
 	public void reload() {
 		this.rewards.clear();
 		this.registerRewards();
@@ -98,10 +111,12 @@ public class RewardsFactory {
 	private void registerRewards() {
 		final FileConfiguration config = ConfigUtils.getConfig(plugin, "rewards");
 
+		rewardQueue.loadSettings(config);
+
 		if (!config.getBoolean("Rewards-Enabled")) return;
 
 		for (final Reward.RewardType rewardType : Reward.RewardType.values()) {
-			rewards.add(new Reward(plugin, rewardType, config.getStringList(rewardType.path)));
+			rewards.put(rewardType, new Reward(plugin, rewardType, config.getStringList(rewardType.path)));
 		}
 	}
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import me.despical.oitc.Main;
 import me.despical.oitc.arena.Arena;
 import me.despical.oitc.arena.ArenaManager;
 import me.despical.oitc.arena.ArenaState;
+import me.despical.oitc.handlers.profiler.Timing;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
@@ -50,11 +51,13 @@ public class SignManager implements Listener {
 	private final Set<ArenaSign> arenaSigns;
 	private final List<String> signLines;
 	private final Map<ArenaState, String> gameStateToString;
+	private final Timing updateTiming;
 
 	public SignManager(Main plugin) {
 		this.plugin = plugin;
 		this.arenaSigns = new HashSet<>();
 		this.signLines = plugin.getChatManager().getStringList("Signs.Lines");
+		this.updateTiming = plugin.getProfiler().timing("signs.update");
 		this.gameStateToString = new EnumMap<>(ArenaState.class);
 
 		for (ArenaState state : ArenaState.values()) {
@@ -207,6 +210,12 @@ public class SignManager implements Listener {
 	}
 
 	public void updateSigns() {
+		plugin.getTickGovernor().submit("signs", this, this::refreshSigns);
+	}
+
+	private void refreshSigns() {
+		final long start = plugin.getProfiler().start();
+
 		for (final ArenaSign arenaSign : arenaSigns) {
 			final Sign sign = arenaSign.getSign();
 
@@ -216,6 +225,8 @@ public class SignManager implements Listener {
 
 			sign.update();
 		}
+
+		plugin.getProfiler().stop(updateTiming, start);
 	}
 
 	public void addArenaSign(Block block, Arena arena) {
@@ -232,7 +243,15 @@ public class SignManager implements Listener {
 	}
 
 	public void updateSign(final Arena arena) {
+		plugin.getTickGovernor().submit("signs", arena, () -> refreshSigns(arena));
+	}
+
+	private void refreshSigns(final Arena arena) {
+		final long start = plugin.getProfiler().start();
+
 		this.arenaSigns.stream().filter(arenaSign -> arenaSign.getArena().equals(arena)).forEach(this::updateSign);
+
+		plugin.getProfiler().stop(updateTiming, start);
 	}
 
 	private void updateSign(final ArenaSign arenaSign) {
@@ -46,12 +46,11 @@ import java.util.*;
 public class User {
 
 	private static final Main plugin = JavaPlugin.getPlugin(Main.class);
-	private static long cooldownCounter = 0;
 
 	private final UUID uuid;
 	private final String name;
-	private final Map<String, Double> cooldowns;
-	private final Map<StatsStorage.StatisticType, Integer> stats;
+	private final long[] cooldowns;
+	private final int[] stats;
 
 	private Page pinnedPage;
 	private boolean spectator;
@@ -62,8 +61,8 @@ public class User {
 		this.uuid = player.getUniqueId();
 		this.name = player.getName();
 		this.pinnedPage = new Page(null, "", 0, 0);
-		this.cooldowns = new HashMap<>();
-		this.stats = new EnumMap<>(StatsStorage.StatisticType.class);
+		this.cooldowns = new long[Cooldown.values().length];
+		this.stats = new int[StatsStorage.StatisticType.values().length];
 	}
 
 	public Arena getArena() {
@@ -87,15 +86,19 @@ public class User {
 	}
 	
 	public void setSpectator(boolean spectating) {
+		if (spectator == spectating) return;
+
 		spectator = spectating;
+		plugin.getUserManager().updateSpectatorCount(spectating ? 1 : -1);
+		plugin.getChatChannelRegistry().rebuild();
 	}
 
 	public int getStat(StatsStorage.StatisticType statisticType) {
-		return stats.computeIfAbsent(statisticType, stat -> 0);
+		return stats[statisticType.ordinal()];
 	}
 	
 	public void setStat(StatsStorage.StatisticType stat, int value) {
-		stats.put(stat, value);
+		stats[stat.ordinal()] = value;
 
 		plugin.getServer().getScheduler().runTask(plugin, () -> plugin.getServer().getPluginManager().callEvent(new OITCPlayerStatisticChangeEvent(getArena(), getPlayer(), stat, value)));
 	}
@@ -164,7 +167,7 @@ public class User {
 		Optional.ofNullable(player.getAttribute(Attribute.GENERIC_ATTACK_SPEED)).ifPresent(attribute -> {
 			this.attackCooldown = attribute.getBaseValue();
 
-			attribute.setBaseValue(plugin.getConfig().getDouble("Hit-Cooldown-Delay", 20));
+			attribute.setBaseValue(plugin.getConfigPreferences().getDouble(ConfigPreferences.DoubleOption.HIT_COOLDOWN_DELAY));
 		});
 	}
 
@@ -212,17 +215,20 @@ public class User {
 		this.getPlayer().sendMessage(plugin.getChatManager().coloredRawMessage(MessageFormat.format(message, args)));
 	}
 
-	public void setCooldown(String s, double seconds) {
-		cooldowns.put(s, seconds + cooldownCounter);
+	public void setCooldown(Cooldown cooldown, long ticks) {
+		cooldowns[cooldown.ordinal()] = plugin.getTimerWheel().currentTick() + ticks;
 	}
 
-	public double getCooldown(String s) {
-		final Double cooldown = cooldowns.get(s);
+	public long getCooldown(Cooldown cooldown) {
+		return Math.max(0, cooldowns[cooldown.ordinal()] - plugin.getTimerWheel().currentTick());
+	}
 
-		return (cooldown == null || cooldown <= cooldownCounter) ? 0 : cooldown - cooldownCounter;
+	public boolean hasCooldown(Cooldown cooldown) {
+		return cooldowns[cooldown.ordinal()] > plugin.getTimerWheel().currentTick();
 	}
 
-	public static void cooldownHandlerTask() {
-		plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> cooldownCounter++, 20, 20);
+	public enum Cooldown {
+
+		RESPAWN_PROTECTION
 	}
 }
\ No newline at end of file
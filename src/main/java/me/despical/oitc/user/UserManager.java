@@ -21,12 +21,17 @@ package me.despical.oitc.user;
 import me.despical.oitc.ConfigPreferences;
 import me.despical.oitc.Main;
 import me.despical.oitc.arena.Arena;
+import me.despical.oitc.events.spectator.SpectatorEvents;
+import me.despical.oitc.handlers.profiler.Timing;
+import me.despical.oitc.handlers.profiler.jfr.StatFlushEvent;
 import me.despical.oitc.user.data.FlatFileStatistics;
 import me.despical.oitc.user.data.MySQLStatistics;
 import me.despical.oitc.user.data.AbstractDatabase;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -36,52 +41,100 @@ import java.util.stream.Collectors;
  */
 public class UserManager {
 
+	private final Main plugin;
 	private final Map<UUID, User> users;
 	private final AbstractDatabase database;
+	private final Timing saveTiming;
+
+	private int spectators;
+	private SpectatorEvents spectatorEvents;
 
 	public UserManager(Main plugin) {
-		this.users = new HashMap<>();
+		this.plugin = plugin;
+		this.users = new ConcurrentHashMap<>();
+		this.saveTiming = plugin.getProfiler().timing("stats.save");
 		this.database = plugin.getOption(ConfigPreferences.Option.DATABASE_ENABLED) ? new MySQLStatistics() : new FlatFileStatistics();
 
 		plugin.getServer().getOnlinePlayers().forEach(this::addUser);
 	}
 
+	@Nullable
 	public User getUser(Player player) {
-		User user = users.get(player.getUniqueId());
-
-		if (user != null) {
-			return user;
-		}
-
-		return this.addUser(player);
+		return users.get(player.getUniqueId());
 	}
 
 	public Set<User> getUsers(Arena arena) {
-		return arena.getPlayers().stream().map(this::getUser).collect(Collectors.toSet());
+		return arena.getPlayers().stream().map(this::getUser).filter(Objects::nonNull).collect(Collectors.toSet());
 	}
 
-	public Set<User> getUsers() {
-		return Set.copyOf(users.values());
+	public Collection<User> getUsers() {
+		return Collections.unmodifiableCollection(users.values());
 	}
 
 	public void saveAllStatistic(User user) {
+		final long start = plugin.getProfiler().start();
+		final StatFlushEvent event = new StatFlushEvent();
+
+		event.begin();
 		database.saveAllStatistic(user);
+		plugin.getMetricsManager().getDatabaseOperations().increment();
+		plugin.getProfiler().stop(saveTiming, start);
+		event.end();
+
+		if (event.shouldCommit()) {
+			final Arena arena = user.getArena();
+
+			event.arenaId = arena != null ? arena.getId() : null;
+			event.playerCount = arena != null ? arena.getPlayers().size() : 0;
+			event.playerName = user.getName();
+			event.commit();
+		}
 	}
 
 	public void loadStatistics(Player player) {
-		database.loadStatistics(getUser(player));
+		final User user = getUser(player);
+
+		if (user != null) {
+			database.loadStatistics(user);
+			plugin.getMetricsManager().getDatabaseOperations().increment();
+		}
 	}
 
 	public User addUser(Player player) {
-		User user = new User(player);
-		database.loadStatistics(user);
+		final User existing = users.get(player.getUniqueId());
+
+		if (existing != null) {
+			return existing;
+		}
+
+		final User user = new User(player);
 
 		users.put(player.getUniqueId(), user);
+		database.loadStatistics(user);
+		plugin.getMetricsManager().getDatabaseOperations().increment();
 		return user;
 	}
 
 	public void removeUser(Player player) {
-		users.remove(player.getUniqueId());
+		final User user = users.remove(player.getUniqueId());
+
+		if (user != null && user.isSpectator()) {
+			this.updateSpectatorCount(-1);
+		}
+	}
+
+	void updateSpectatorCount(int delta) {
+		this.spectators = Math.max(0, spectators + delta);
+
+		if (spectators > 0) {
+			if (spectatorEvents == null) {
+				spectatorEvents = new SpectatorEvents(plugin);
+			}
+
+			spectatorEvents.register();
+		} else if (spectatorEvents != null) {
+			spectatorEvents.unregister();
+		}
 	}
 
 	public AbstractDatabase getDatabase() {
@@ -20,9 +20,12 @@ package me.despical.oitc.user.data;
 
 import me.despical.oitc.Main;
 import me.despical.oitc.api.StatsStorage;
+import me.despical.oitc.handlers.profiler.jfr.DatabaseQueryEvent;
 import me.despical.oitc.user.User;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Despical
  * <p>
@@ -32,6 +35,8 @@ public sealed abstract class AbstractDatabase permits MySQLStatistics, FlatFileS
 
 	protected static final Main plugin = JavaPlugin.getPlugin(Main.class);
 
+	private final AtomicInteger pendingQueries = new AtomicInteger();
+
 	public abstract void saveStatistic(User user, StatsStorage.StatisticType stat);
 
 	public abstract void saveAllStatistic(User user);
@@ -40,4 +45,35 @@ public sealed abstract class AbstractDatabase permits MySQLStatistics, FlatFileS
 
 	public void shutdown() {
 	}
+
+	public int getPendingQueries() {
+		return pendingQueries.get();
+	}
+
+	protected final void runQuery(String operation, User user, Runnable query) {
+		pendingQueries.incrementAndGet();
+
+		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+			final long start = System.nanoTime();
+			final DatabaseQueryEvent event = new DatabaseQueryEvent();
+
+			event.begin();
+
+			try {
+				query.run();
+			} finally {
+				final int pending = pendingQueries.decrementAndGet();
+
+				plugin.getMetricsManager().getDatabaseLatency().observe((System.nanoTime() - start) / 1E9);
+				event.end();
+
+				if (event.shouldCommit()) {
+					event.operation = operation;
+					event.playerName = user.getName();
+					event.pendingQueries = pending;
+					event.commit();
+				}
+			}
+		});
+	}
 }
\ No newline at end of file
@@ -65,7 +65,7 @@ public non-sealed class MySQLStatistics extends AbstractDatabase {
 
 	@Override
 	public void saveStatistic(@NotNull User user, StatsStorage.StatisticType statisticType) {
-		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> database.executeUpdate(String.format("UPDATE %s SET %s=%d WHERE UUID='%s';", tableName, statisticType.getName(), user.getStat(statisticType), user.getUniqueId().toString())));
+		runQuery("save", user, () -> database.executeUpdate(String.format("UPDATE %s SET %s=%d WHERE UUID='%s';", tableName, statisticType.getName(), user.getStat(statisticType), user.getUniqueId().toString())));
 	}
 
 	@Override
@@ -87,33 +87,38 @@ public non-sealed class MySQLStatistics extends AbstractDatabase {
 
 		final String update = builder.toString();
 
-		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> database.executeUpdate(String.format("UPDATE %s%s WHERE UUID='%s';", tableName, update, user.getUniqueId().toString())));
+		runQuery("save-all", user, () -> database.executeUpdate(String.format("UPDATE %s%s WHERE UUID='%s';", tableName, update, user.getUniqueId().toString())));
 	}
 
 	@Override
 	public void loadStatistics(@NotNull User user) {
 		final String uuid = user.getUniqueId().toString();
 
-		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+		runQuery("load", user, () -> {
 			try (final Connection connection = database.getConnection()) {
 				final Statement statement = connection.createStatement();
 				final ResultSet result = statement.executeQuery(String.format("SELECT * from %s WHERE UUID='%s';", tableName, uuid));
 
+				final StatsStorage.StatisticType[] stats = StatsStorage.StatisticType.values();
+				final int[] values = new int[stats.length];
+
 				if (result.next()) {
-					for (final StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
+					for (final StatsStorage.StatisticType stat : stats) {
 						if (!stat.isPersistent()) continue;
 
-						user.setStat(stat, result.getInt(stat.getName()));
+						values[stat.ordinal()] = result.getInt(stat.getName());
 					}
 				} else {
 					statement.executeUpdate(String.format("INSERT INTO %s (UUID,name) VALUES ('%s','%s');", tableName, uuid, user.getName()));
+				}
 
-					for (final StatsStorage.StatisticType stat : StatsStorage.StatisticType.values()) {
+				plugin.getServer().getScheduler().runTask(plugin, () -> {
+					for (final StatsStorage.StatisticType stat : stats) {
 						if (!stat.isPersistent()) continue;
 
-						user.setStat(stat, 0);
+						user.setStat(stat, values[stat.ordinal()]);
 					}
-				}
+				});
 			} catch (SQLException exception) {
 				exception.printStackTrace();
 			}
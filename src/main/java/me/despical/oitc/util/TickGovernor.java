@@ -0,0 +1,190 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package me.despical.oitc.util;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import me.despical.oitc.ConfigPreferences;
+import me.despical.oitc.Main;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class TickGovernor implements Listener {
+
+	private static final boolean SUPPORTED = isSupported();
+
+	private final Main plugin;
+	private final Queue<Task> queue;
+	private final Map<Key, Task> tasks;
+
+	private boolean enabled;
+	private double targetMspt;
+	private long budgetNanos;
+	private int maxDelay;
+	private long tick;
+
+	public TickGovernor(Main plugin) {
+		this.plugin = plugin;
+		this.queue = new ArrayDeque<>();
+		this.tasks = new HashMap<>();
+		this.reload();
+
+		if (SUPPORTED) {
+			plugin.getServer().getPluginManager().registerEvents(this, plugin);
+		}
+	}
+
+	public void reload() {
+		final ConfigPreferences preferences = plugin.getConfigPreferences();
+
+		this.enabled = SUPPORTED && preferences.getOption(ConfigPreferences.Option.TICK_GOVERNOR_ENABLED);
+		this.targetMspt = preferences.getInt(ConfigPreferences.IntOption.TICK_GOVERNOR_TARGET_MSPT);
+		this.budgetNanos = preferences.getInt(ConfigPreferences.IntOption.TICK_GOVERNOR_TIME_BUDGET) * 1_000_000L;
+		this.maxDelay = Math.max(1, preferences.getInt(ConfigPreferences.IntOption.TICK_GOVERNOR_MAX_DELAY));
+
+		if (!enabled) this.flush();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Queues cosmetic work to run at the end of a tick with spare time. Work
+	 * submitted again with the same category and id before it ran replaces the
+	 * pending one but keeps its place, so it is still forced after max delay.
+	 */
+	public void submit(String category, Object id, Runnable work) {
+		if (!enabled) {
+			work.run();
+			return;
+		}
+
+		final Key key = new Key(category, id);
+		final Task pending = tasks.get(key);
+
+		if (pending != null) {
+			pending.work = work;
+			return;
+		}
+
+		final Task task = new Task(key, work, tick);
+
+		tasks.put(key, task);
+		queue.add(task);
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public void flush() {
+		Task task;
+
+		while ((task = queue.poll()) != null) {
+			this.run(task);
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onTickEnd(ServerTickEndEvent event) {
+		this.tick++;
+
+		if (queue.isEmpty()) return;
+
+		final boolean headroom = event.getTickDuration() < targetMspt;
+		final long deadline = System.nanoTime() + Math.min(budgetNanos, Math.max(0, event.getTimeRemaining()));
+		Task task;
+
+		// Tasks are queued in submission order, once one is neither affordable nor overdue the rest are not either.
+		while ((task = queue.peek()) != null) {
+			if (tick - task.submittedAt < maxDelay && (!headroom || System.nanoTime() >= deadline)) break;
+
+			queue.poll();
+			this.run(task);
+		}
+	}
+
+	private void run(Task task) {
+		tasks.remove(task.key);
+
+		try {
+			task.work.run();
+		} catch (Exception exception) {
+			plugin.getLogger().log(Level.WARNING, "Exception while running deferred " + task.key.category + " work!", exception);
+		}
+	}
+
+	private static boolean isSupported() {
+		try {
+			Class.forName("com.destroystokyo.paper.event.server.ServerTickEndEvent");
+			return true;
+		} catch (ClassNotFoundException exception) {
+			return false;
+		}
+	}
+
+	private static final class Key {
+
+		private final String category;
+		private final Object id;
+
+		private Key(String category, Object id) {
+			this.category = category;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Key key && category.equals(key.category) && id.equals(key.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(category, id);
+		}
+	}
+
+	private static final class Task {
+
+		private final Key key;
+		private final long submittedAt;
+
+		private Runnable work;
+
+		private Task(Key key, Runnable work, long submittedAt) {
+			this.key = key;
+			this.work = work;
+			this.submittedAt = submittedAt;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/*
+ * OITC - Kill your opponents and reach 25 points to win!
+ * Copyright (C) 2024 Despical
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package me.despical.oitc.util;
+
+import me.despical.oitc.Main;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 19.10.2026
+ */
+public final class TimerWheel {
+
+	private static final int WHEEL_SIZE = 256, MASK = WHEEL_SIZE - 1;
+
+	private final Main plugin;
+	private final List<Timeout>[] wheel;
+	private final List<Timeout> expired;
+
+	private long tick;
+
+	@SuppressWarnings("unchecked")
+	public TimerWheel(Main plugin) {
+		this.plugin = plugin;
+		this.wheel = new List[WHEEL_SIZE];
+		this.expired = new ArrayList<>();
+
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			this.wheel[i] = new ArrayList<>();
+		}
+
+		plugin.getServer().getScheduler().runTaskTimer(plugin, this::advance, 1L, 1L);
+	}
+
+	public long currentTick() {
+		return tick;
+	}
+
+	public Timeout schedule(long delay, Runnable task) {
+		return this.add(new Timeout(tick + Math.max(1, delay), 0, timeout -> task.run()));
+	}
+
+	public Timeout scheduleRepeating(long delay, long period, Consumer<Timeout> task) {
+		return this.add(new Timeout(tick + Math.max(1, delay), Math.max(1, period), task));
+	}
+
+	private Timeout add(Timeout timeout) {
+		wheel[(int) (timeout.deadline & MASK)].add(timeout);
+		return timeout;
+	}
+
+	private void advance() {
+		final long now = ++tick;
+		final List<Timeout> bucket = wheel[(int) (now & MASK)];
+
+		if (bucket.isEmpty()) return;
+
+		final Iterator<Timeout> iterator = bucket.iterator();
+
+		while (iterator.hasNext()) {
+			final Timeout timeout = iterator.next();
+
+			if (timeout.cancelled) {
+				iterator.remove();
+			} else if (timeout.deadline <= now) {
+				iterator.remove();
+				expired.add(timeout);
+			}
+		}
+
+		for (final Timeout timeout : expired) {
+			timeout.runs++;
+
+			try {
+				timeout.task.accept(timeout);
+			} catch (Exception exception) {
+				plugin.getLogger().log(Level.WARNING, "Exception while running a scheduled timeout!", exception);
+			}
+
+			if (timeout.period > 0 && !timeout.cancelled) {
+				timeout.deadline = now + timeout.period;
+				this.add(timeout);
+			} else {
+				timeout.cancelled = true;
+			}
+		}
+
+		expired.clear();
+	}
+
+	public static final class Timeout {
+
+		private final long period;
+		private final Consumer<Timeout> task;
+
+		private long deadline;
+		private int runs;
+		private boolean cancelled;
+
+		private Timeout(long deadline, long period, Consumer<Timeout> task) {
+			this.deadline = deadline;
+			this.period = period;
+			this.task = task;
+		}
+
+		public void cancel() {
+			this.cancelled = true;
+		}
+
+		public boolean isPending() {
+			return !cancelled;
+		}
+
+		public int getRuns() {
+			return runs;
+		}
+	}
+}
\ No newline at end of file